@@ -1,4 +1,7 @@
 
+import java.awt.image.BufferedImage
+import javax.imageio.ImageIO
+
 plugins {
     // Apply the java plugin to add support for Java
     java
@@ -16,6 +19,9 @@ plugins {
     id("org.danilopianini.gradle-java-qa") version "1.159.0"
 
     id("org.danilopianini.unibo-oop-gradle-plugin") version "1.1.79"
+
+    // Microbenchmarks in src/jmh/java, launch them with the "jmh" task
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 java { toolchain { languageVersion.set(JavaLanguageVersion.of(21)) } }
@@ -65,6 +71,92 @@ tasks.withType<Test> {
     useJUnitPlatform()
 }
 
+jmh {
+    // Reports the allocation rate of every benchmark
+    profilers.add("gc")
+}
+
+/*
+ * Packs the sprites of the game into a single atlas, with an index of the region each of them takes.
+ * The sprites are sorted by height and placed on shelves, left to right, with a pixel of padding between them.
+ */
+abstract class PackSprites : DefaultTask() {
+    @get:InputDirectory
+    @get:PathSensitive(PathSensitivity.RELATIVE)
+    abstract val resources: DirectoryProperty
+
+    @get:Input
+    abstract val folders: ListProperty<String>
+
+    @get:Input
+    abstract val atlasWidth: Property<Int>
+
+    @get:OutputDirectory
+    abstract val outputDirectory: DirectoryProperty
+
+    @TaskAction
+    fun pack() {
+        val padding = 1
+        val sprites = folders.get()
+            .flatMap { folder ->
+                resources.dir(folder).get().asFile
+                    .listFiles { file -> file.extension == "png" }.orEmpty()
+                    .sortedBy { it.name }
+                    .map { "$folder/${it.name}" to ImageIO.read(it) }
+            }
+            .sortedByDescending { it.second.height }
+        val regions = mutableListOf<Pair<String, IntArray>>()
+        var x = 0
+        var y = 0
+        var shelfHeight = 0
+        for ((name, image) in sprites) {
+            require(image.width <= atlasWidth.get()) { "$name is wider than the atlas" }
+            if (x + image.width > atlasWidth.get()) {
+                x = 0
+                y += shelfHeight + padding
+                shelfHeight = 0
+            }
+            regions += name to intArrayOf(x, y, image.width, image.height)
+            x += image.width + padding
+            shelfHeight = maxOf(shelfHeight, image.height)
+        }
+
+        val atlas = BufferedImage(
+            regions.maxOf { it.second[0] + it.second[2] },
+            regions.maxOf { it.second[1] + it.second[3] },
+            BufferedImage.TYPE_INT_ARGB,
+        )
+        val graphics = atlas.createGraphics()
+        sprites.zip(regions).forEach { (sprite, region) ->
+            graphics.drawImage(sprite.second, region.second[0], region.second[1], null)
+        }
+        graphics.dispose()
+
+        val directory = outputDirectory.dir("atlas").get().asFile
+        directory.mkdirs()
+        ImageIO.write(atlas, "png", directory.resolve("sprites.png"))
+        directory.resolve("sprites.index").writeText(
+            regions.sortedBy { it.first }.joinToString(separator = "\n", postfix = "\n") { (name, region) ->
+                "$name=${region.joinToString(",")}"
+            },
+        )
+    }
+}
+
+val packSprites by tasks.registering(PackSprites::class) {
+    resources.set(layout.projectDirectory.dir("src/main/resources"))
+    folders.set(listOf("chunks", "obstacles", "pickables", "skins"))
+    atlasWidth.set(4096)
+    outputDirectory.set(layout.buildDirectory.dir("generated/atlas"))
+}
+
+// The atlas is generated into its own resource folder, so it ends up in the jar and on the runtime classpath
+sourceSets {
+    main {
+        resources.srcDir(packSprites)
+    }
+}
+
 val main: String by project
 
 application {
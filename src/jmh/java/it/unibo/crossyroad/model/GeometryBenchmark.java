@@ -0,0 +1,93 @@
+package it.unibo.crossyroad.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.collect.Range;
+
+import it.unibo.crossyroad.model.api.Direction;
+import it.unibo.crossyroad.model.api.Position;
+import it.unibo.crossyroad.model.api.Positionable;
+import it.unibo.crossyroad.model.impl.PositionablePlayer;
+import it.unibo.crossyroad.model.impl.obstacles.Car;
+
+/**
+ * Compares the overlap and containment checks done with Guava ranges to the primitive ones of
+ * {@link it.unibo.crossyroad.model.api.Geometry}. Run with the gc profiler to see the allocation per call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeometryBenchmark {
+    private final Positionable player = new PositionablePlayer(new Position(5, 4));
+    private final Positionable car = new Car(new Position(4.5, 4), 3, Direction.RIGHT);
+    private final Position point = new Position(5.5, 4.5);
+
+    /**
+     * Overlap check with four Guava ranges and their intersections.
+     *
+     * @return whether the car overlaps the player.
+     */
+    @Benchmark
+    public boolean overlapsWithRanges() {
+        final var firstX = horizontal(this.car);
+        final var firstY = vertical(this.car);
+        final var secondX = horizontal(this.player);
+        final var secondY = vertical(this.player);
+        return firstX.isConnected(secondX) && firstY.isConnected(secondY)
+            && !firstX.intersection(secondX).isEmpty()
+            && !firstY.intersection(secondY).isEmpty();
+    }
+
+    /**
+     * Overlap check of the model.
+     *
+     * @return whether the car overlaps the player.
+     */
+    @Benchmark
+    public boolean overlaps() {
+        return this.car.overlaps(this.player);
+    }
+
+    /**
+     * Containment check with two Guava ranges.
+     *
+     * @return whether the car contains the point.
+     */
+    @Benchmark
+    public boolean containsWithRanges() {
+        final var x = horizontal(this.car);
+        final var y = vertical(this.car);
+        return x.contains(this.point.x()) && y.contains(this.point.y());
+    }
+
+    /**
+     * Containment check of the model.
+     *
+     * @return whether the car contains the point.
+     */
+    @Benchmark
+    public boolean contains() {
+        return this.car.contains(this.point);
+    }
+
+    private static Range<Double> horizontal(final Positionable p) {
+        return Range.closedOpen(p.getPosition().x(), p.getPosition().x() + p.getDimension().width());
+    }
+
+    private static Range<Double> vertical(final Positionable p) {
+        return Range.closedOpen(p.getPosition().y(), p.getPosition().y() + p.getDimension().height());
+    }
+}
@@ -0,0 +1,113 @@
+package it.unibo.crossyroad.model.managers;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import it.unibo.crossyroad.model.api.Dimension;
+import it.unibo.crossyroad.model.api.Direction;
+import it.unibo.crossyroad.model.api.Position;
+import it.unibo.crossyroad.model.api.chunks.Chunk;
+import it.unibo.crossyroad.model.api.pickables.Pickable;
+import it.unibo.crossyroad.model.impl.chunks.Grass;
+import it.unibo.crossyroad.model.impl.managers.OccupancyGrid;
+import it.unibo.crossyroad.model.impl.managers.RowReachability;
+
+/**
+ * Compares the search of the unreachable pickables on a full map: one breadth first search
+ * for every pickable against a single reachability computation shared by all of them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PickableReachabilityBenchmark {
+    private static final int WIDTH = 10;
+    private static final int TOP_ROW = -12;
+    private static final int BOTTOM_ROW = 8;
+    private static final int GRID_ROWS = 24;
+    private static final Dimension CHUNK_DIMENSION = new Dimension(10, 3);
+    private static final Position PLAYER = new Position(5, 8);
+
+    private final List<Pickable> pickables = new ArrayList<>();
+    private OccupancyGrid grid;
+    private RowReachability reachability;
+
+    /**
+     * Fills the map with Grass chunks, the ones with the most pickables and solid obstacles.
+     */
+    @Setup
+    public void setUp() {
+        this.grid = new OccupancyGrid(WIDTH, TOP_ROW, GRID_ROWS);
+        this.reachability = new RowReachability(this.grid, WIDTH, TOP_ROW, BOTTOM_ROW);
+        for (int y = TOP_ROW; y <= BOTTOM_ROW; y += (int) CHUNK_DIMENSION.height()) {
+            final Chunk chunk = new Grass(new Position(0, y), CHUNK_DIMENSION);
+            this.grid.addChunk(chunk);
+            this.pickables.addAll(chunk.getPickables());
+        }
+    }
+
+    /**
+     * A breadth first search from the player for every pickable.
+     *
+     * @param blackhole sink of the results.
+     */
+    @Benchmark
+    public void searchForEveryPickable(final Blackhole blackhole) {
+        for (final Pickable p : this.pickables) {
+            blackhole.consume(this.isThereAPath(p.getPosition()));
+        }
+    }
+
+    /**
+     * A single reachability computation, then a lookup for every pickable.
+     *
+     * @param blackhole sink of the results.
+     */
+    @Benchmark
+    public void singleReachabilityPass(final Blackhole blackhole) {
+        this.reachability.reset(TOP_ROW);
+        for (final Pickable p : this.pickables) {
+            blackhole.consume(this.reachability.isReachable(p.getPosition(), PLAYER));
+        }
+    }
+
+    private boolean isThereAPath(final Position destination) {
+        final Set<Position> visited = new HashSet<>();
+        final Queue<Position> queue = new ArrayDeque<>();
+        queue.add(PLAYER);
+        visited.add(PLAYER);
+        while (!queue.isEmpty()) {
+            final Position current = queue.poll();
+            if (current.equals(destination)) {
+                return true;
+            }
+            for (final Direction d : Direction.values()) {
+                final Position next = d.apply(current);
+                if (next.x() >= 0 && next.x() < WIDTH && next.y() >= TOP_ROW && next.y() <= BOTTOM_ROW
+                    && !this.grid.isBlocked(next) && visited.add(next)) {
+                    queue.add(next);
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -81,7 +81,7 @@ public class EntryPoint extends Application {
         final ShopView shopView = new ShopViewImpl(root);
 
         final AppController appController = new AppControllerImpl(
-            ac -> new GameControllerImpl(ac, gameView, this.gameManager, this.gameParameters),
+            ac -> new GameControllerImpl(ac, gameView, this.gameManager),
             ac -> new MenuControllerImpl(ac, menuView, this.stateManager),
             ac -> new ShopControllerImpl(ac, this.stateManager, shopView)
         );
@@ -0,0 +1,35 @@
+package it.unibo.crossyroad.controller.api;
+
+/**
+ * Source of the time used to advance the game. The origin of the time is arbitrary:
+ * only the difference between two readings is meaningful.
+ */
+@FunctionalInterface
+public interface Clock {
+
+    /**
+     * The monotonic clock of the system, used when playing.
+     */
+    Clock SYSTEM = System::nanoTime;
+
+    /**
+     * Number of nanoseconds in a millisecond.
+     */
+    long NANOS_PER_MILLI = 1_000_000L;
+
+    /**
+     * Gets the current time.
+     *
+     * @return the current time, in nanoseconds.
+     */
+    long nanos();
+
+    /**
+     * Gets the current time.
+     *
+     * @return the current time, in milliseconds.
+     */
+    default long millis() {
+        return this.nanos() / NANOS_PER_MILLI;
+    }
+}
@@ -1,5 +1,7 @@
 package it.unibo.crossyroad.controller.api;
 
+import it.unibo.crossyroad.model.api.FrameBuffer;
+import it.unibo.crossyroad.model.api.GameEventRing;
 import it.unibo.crossyroad.view.api.UserInput;
 
 /**
@@ -50,4 +52,25 @@ public interface GameController {
      * @return the path to the current selected skin.
      */
     String getActiveSkin();
+
+    /**
+     * Gets the counters of the game loop, to check that it keeps up with its tick rate.
+     * 
+     * @return the counters of the current game loop.
+     */
+    LoopMetrics getLoopMetrics();
+
+    /**
+     * Returns the buffer the game loop publishes its frames to. The view takes the newest one when it draws.
+     *
+     * @return the frame buffer of the game.
+     */
+    FrameBuffer getFrameBuffer();
+
+    /**
+     * Returns the ring the game publishes its events to. The view subscribes to it to update what changed.
+     *
+     * @return the events of the game.
+     */
+    GameEventRing getEvents();
 }
@@ -0,0 +1,60 @@
+package it.unibo.crossyroad.controller.api;
+
+import java.util.List;
+
+/**
+ * Outcome of a run of a {@link SessionHost}.
+ *
+ * @param results the outcome of each session, in session order.
+ *
+ * @param wallTimeNanos the real time taken by the whole run, in nanoseconds.
+ *
+ * @param cores the number of processors available to the host.
+ */
+public record HostReport(List<SimulationResult> results, long wallTimeNanos, int cores) {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    /**
+     * Initializes the report.
+     *
+     * @param results the outcome of each session, in session order.
+     *
+     * @param wallTimeNanos the real time taken by the whole run, in nanoseconds.
+     *
+     * @param cores the number of processors available to the host.
+     */
+    public HostReport {
+        results = List.copyOf(results);
+        if (wallTimeNanos <= 0 || cores <= 0) {
+            throw new IllegalArgumentException("Wall time and cores must be positive");
+        }
+    }
+
+    /**
+     * Gets the number of updates run by all the sessions together.
+     *
+     * @return the total number of ticks.
+     */
+    public long totalTicks() {
+        return this.results.stream().mapToLong(SimulationResult::ticks).sum();
+    }
+
+    /**
+     * Gets the number of updates run every second by all the sessions together.
+     *
+     * @return the ticks per second.
+     */
+    public double ticksPerSecond() {
+        return this.totalTicks() * NANOS_PER_SECOND / this.wallTimeNanos;
+    }
+
+    /**
+     * Gets the number of updates run every second by each processor.
+     *
+     * @return the ticks per second per core.
+     */
+    public double ticksPerSecondPerCore() {
+        return this.ticksPerSecond() / this.cores;
+    }
+}
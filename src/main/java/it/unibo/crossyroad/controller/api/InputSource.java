@@ -0,0 +1,33 @@
+package it.unibo.crossyroad.controller.api;
+
+import java.util.Optional;
+
+import it.unibo.crossyroad.model.api.Direction;
+
+/**
+ * Source of the moves of the player, polled once per update.
+ */
+@FunctionalInterface
+public interface InputSource {
+
+    /**
+     * Gets the next move to apply, if one is due.
+     *
+     * @param time the time since the start of the game, in milliseconds.
+     *
+     * @return the next move due at the given time, or an empty Optional if there's none.
+     */
+    Optional<Direction> poll(long time);
+
+    /**
+     * Gets the time of the next move, so that the polls before it can be skipped.
+     * By default every poll may return a move, so the next one is due right away.
+     *
+     * @param time the time since the start of the game, in milliseconds.
+     *
+     * @return the earliest time, not before the given one, at which a poll may return a move.
+     */
+    default long getNextTime(final long time) {
+        return time;
+    }
+}
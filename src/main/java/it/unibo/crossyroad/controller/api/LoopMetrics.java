@@ -0,0 +1,15 @@
+package it.unibo.crossyroad.controller.api;
+
+/**
+ * Counters of a fixed-timestep game loop.
+ *
+ * @param ticks the number of updates run.
+ *
+ * @param frames the number of iterations of the loop that ran at least one update.
+ *
+ * @param overruns the number of iterations that were so late that some updates had to be dropped.
+ *
+ * @param droppedNanos the game time dropped by the overruns, in nanoseconds.
+ */
+public record LoopMetrics(long ticks, long frames, long overruns, long droppedNanos) {
+}
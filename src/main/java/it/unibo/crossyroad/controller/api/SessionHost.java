@@ -0,0 +1,18 @@
+package it.unibo.crossyroad.controller.api;
+
+/**
+ * Runs many independent game sessions at the same time, in the same JVM.
+ */
+public interface SessionHost {
+
+    /**
+     * Runs the given number of sessions until each one is over or reaches the tick limit.
+     *
+     * @param sessions the number of sessions to run.
+     *
+     * @param maxTicks the maximum number of updates of each session.
+     *
+     * @return the outcome of every session and the throughput of the host.
+     */
+    HostReport run(int sessions, long maxTicks);
+}
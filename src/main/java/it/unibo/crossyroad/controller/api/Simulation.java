@@ -0,0 +1,16 @@
+package it.unibo.crossyroad.controller.api;
+
+/**
+ * Runs games without a view, as fast as possible.
+ */
+public interface Simulation {
+
+    /**
+     * Starts a new game and runs it until it's over or the tick limit is reached.
+     *
+     * @param maxTicks the maximum number of updates to run.
+     *
+     * @return the outcome of the game.
+     */
+    SimulationResult run(long maxTicks);
+}
@@ -0,0 +1,17 @@
+package it.unibo.crossyroad.controller.api;
+
+/**
+ * Outcome of a simulated game.
+ *
+ * @param ticks the number of updates run.
+ *
+ * @param simulatedTime the game time simulated, in milliseconds.
+ *
+ * @param score the final score.
+ *
+ * @param coins the coins owned at the end of the game.
+ *
+ * @param gameOver whether the game ended before the tick limit.
+ */
+public record SimulationResult(long ticks, long simulatedTime, int score, int coins, boolean gameOver) {
+}
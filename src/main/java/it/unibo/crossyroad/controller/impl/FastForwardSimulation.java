@@ -0,0 +1,126 @@
+package it.unibo.crossyroad.controller.impl;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import it.unibo.crossyroad.controller.api.InputSource;
+import it.unibo.crossyroad.controller.api.Simulation;
+import it.unibo.crossyroad.controller.api.SimulationResult;
+import it.unibo.crossyroad.model.api.Direction;
+import it.unibo.crossyroad.model.api.GameParameters;
+import it.unibo.crossyroad.model.api.managers.GameManager;
+
+/**
+ * Simulation that gives the same games as {@link HeadlessSimulation}, but skips the stretches where nothing happens.
+ * When there's no move, it asks the GameManager how long the game stays quiet and the input how long until the next move,
+ * and runs all the ticks in between with a single update. The obstacles move along closed form trajectories, so one long
+ * update leaves them where the fixed updates would.
+ *
+ * @see Simulation
+ * @see GameManager#getQuietTime(long)
+ */
+public final class FastForwardSimulation implements Simulation {
+
+    private final GameManager gameManager;
+    private final GameParameters parameters;
+    private final VirtualClock clock;
+    private final InputSource input;
+    private final long deltaTime;
+    private long updates;
+
+    /**
+     * Initializes the simulation.
+     *
+     * @param gameManager the game manager.
+     *
+     * @param parameters the game parameters.
+     *
+     * @param clock the clock moved forward by each update.
+     *
+     * @param input the source of the moves of the player.
+     *
+     * @param deltaTime the time simulated by each tick, in milliseconds.
+     *
+     * @throws IllegalArgumentException if deltaTime is not positive.
+     */
+    @SuppressFBWarnings(
+        value = "EI2",
+        justification = "The simulation drives the given game manager and clock, which are shared with the caller."
+    )
+    public FastForwardSimulation(final GameManager gameManager, final GameParameters parameters,
+                                 final VirtualClock clock, final InputSource input, final long deltaTime) {
+        if (deltaTime <= 0) {
+            throw new IllegalArgumentException("Delta time must be positive");
+        }
+        this.gameManager = Objects.requireNonNull(gameManager, "Game manager cannot be null");
+        this.parameters = Objects.requireNonNull(parameters, "Game parameters cannot be null");
+        this.clock = Objects.requireNonNull(clock, "Clock cannot be null");
+        this.input = Objects.requireNonNull(input, "Input source cannot be null");
+        this.deltaTime = deltaTime;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SimulationResult run(final long maxTicks) {
+        if (maxTicks < 0) {
+            throw new IllegalArgumentException("Tick limit cannot be negative");
+        }
+        this.gameManager.reset();
+        final long start = this.clock.millis();
+        long ticks = 0;
+        this.updates = 0;
+
+        while (!this.gameManager.isGameOver() && ticks < maxTicks) {
+            final long time = this.clock.millis() - start;
+            final Optional<Direction> move = this.input.poll(time);
+            move.ifPresent(this.gameManager::movePlayer);
+            final long skipped = move.isPresent() ? 1 : this.getIdleTicks(time, maxTicks - ticks);
+            this.gameManager.update(skipped * this.deltaTime);
+            this.clock.advance(skipped * this.deltaTime);
+            ticks += skipped;
+            this.updates++;
+        }
+
+        return new SimulationResult(
+            ticks,
+            this.clock.millis() - start,
+            this.parameters.getScore(),
+            this.parameters.getCoinCount(),
+            this.gameManager.isGameOver()
+        );
+    }
+
+    /**
+     * Returns the number of updates the last run took, at most as many as its ticks.
+     *
+     * @return the number of updates.
+     */
+    public long getUpdates() {
+        return this.updates;
+    }
+
+    /**
+     * Computes how many ticks can be run with a single update, starting from one with no move.
+     *
+     * @param time the time of the tick since the start of the game, in milliseconds.
+     * @param maxTicks the ticks left before the limit.
+     * @return the number of ticks, at least one.
+     */
+    private long getIdleTicks(final long time, final long maxTicks) {
+        //The polls of the skipped ticks must all come before the next move
+        final long nextMove = this.input.getNextTime(time);
+        final long untilMove = nextMove == Long.MAX_VALUE ? maxTicks : (nextMove - time - 1) / this.deltaTime + 1;
+        final long limit = Math.min(maxTicks, untilMove);
+        if (limit <= 1) {
+            return 1;
+        }
+        final long quiet = this.gameManager.getQuietTime(
+            limit > Long.MAX_VALUE / this.deltaTime ? Long.MAX_VALUE : limit * this.deltaTime
+        );
+        return Math.max(1, Math.min(limit, quiet / this.deltaTime));
+    }
+}
@@ -0,0 +1,118 @@
+package it.unibo.crossyroad.controller.impl;
+
+import it.unibo.crossyroad.controller.api.Clock;
+import it.unibo.crossyroad.controller.api.LoopMetrics;
+
+/**
+ * Paces a fixed-timestep loop. The game time advances in steps of the same length, and every iteration
+ * of the loop runs the steps that became due since the previous one. When the loop falls too far behind,
+ * for example after a GC pause, only a bounded number of steps is run to catch up and the rest of the
+ * delay is dropped and counted as an overrun.
+ *
+ * <p>The length of a step in nanoseconds may not be a whole number of milliseconds: the delta times
+ * given to the model are the differences of the game time rounded down to milliseconds, so their sum
+ * never drifts from the game time.
+ */
+public final class FixedStepScheduler {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final long stepNanos;
+    private final int maxCatchUpSteps;
+    private long nextStepTime;
+    private long steps;
+    private long frames;
+    private long overruns;
+    private long droppedNanos;
+
+    /**
+     * Initializes the scheduler.
+     *
+     * @param ticksPerSecond the number of steps in a second of game time.
+     *
+     * @param maxCatchUpSteps the maximum number of steps run by a single iteration.
+     *
+     * @throws IllegalArgumentException if one of the arguments is not positive.
+     */
+    public FixedStepScheduler(final int ticksPerSecond, final int maxCatchUpSteps) {
+        if (ticksPerSecond <= 0 || maxCatchUpSteps <= 0) {
+            throw new IllegalArgumentException("Tick rate and catch-up steps must be positive");
+        }
+        this.stepNanos = NANOS_PER_SECOND / ticksPerSecond;
+        this.maxCatchUpSteps = maxCatchUpSteps;
+    }
+
+    /**
+     * Makes the next step due one step after the given time, forgetting any delay.
+     * Used when the loop starts and when it resumes after a pause.
+     *
+     * @param now the current time, in nanoseconds.
+     */
+    public void resync(final long now) {
+        this.nextStepTime = now + this.stepNanos;
+    }
+
+    /**
+     * Computes how many steps the current iteration has to run, dropping the ones over the catch-up limit.
+     *
+     * @param now the current time, in nanoseconds.
+     *
+     * @return the number of steps to run, each one followed by a call to {@link #nextDeltaMillis()}.
+     */
+    public int stepsDue(final long now) {
+        if (now < this.nextStepTime) {
+            return 0;
+        }
+        final long due = (now - this.nextStepTime) / this.stepNanos + 1;
+        this.frames++;
+        if (due > this.maxCatchUpSteps) {
+            final long dropped = due - this.maxCatchUpSteps;
+            this.nextStepTime += dropped * this.stepNanos;
+            this.droppedNanos += dropped * this.stepNanos;
+            this.overruns++;
+            return this.maxCatchUpSteps;
+        }
+        return (int) due;
+    }
+
+    /**
+     * Takes a step, moving the game time forward.
+     *
+     * @return the delta time of the step, in milliseconds.
+     */
+    public long nextDeltaMillis() {
+        final long before = this.steps * this.stepNanos / Clock.NANOS_PER_MILLI;
+        this.steps++;
+        this.nextStepTime += this.stepNanos;
+        return this.steps * this.stepNanos / Clock.NANOS_PER_MILLI - before;
+    }
+
+    /**
+     * Computes how long the loop can wait before the next step is due.
+     *
+     * @param now the current time, in nanoseconds.
+     *
+     * @return the time until the next step, in nanoseconds, or 0 if it's already due.
+     */
+    public long nanosUntilNextStep(final long now) {
+        return Math.max(0, this.nextStepTime - now);
+    }
+
+    /**
+     * Gets the length of a step.
+     *
+     * @return the length of a step, in nanoseconds.
+     */
+    public long getStepNanos() {
+        return this.stepNanos;
+    }
+
+    /**
+     * Gets the counters of the scheduler.
+     *
+     * @return the current counters.
+     */
+    public LoopMetrics getMetrics() {
+        return new LoopMetrics(this.steps, this.frames, this.overruns, this.droppedNanos);
+    }
+}
@@ -1,17 +1,22 @@
 package it.unibo.crossyroad.controller.impl;
 
 import java.io.File;
+import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.LinkedBlockingQueue;
-import java.util.logging.Logger;
+import java.util.concurrent.locks.LockSupport;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import it.unibo.crossyroad.controller.api.AppController;
+import it.unibo.crossyroad.controller.api.Clock;
 import it.unibo.crossyroad.controller.api.GameController;
+import it.unibo.crossyroad.controller.api.LoopMetrics;
 import it.unibo.crossyroad.model.api.Direction;
+import it.unibo.crossyroad.model.api.Frame;
+import it.unibo.crossyroad.model.api.FrameBuffer;
+import it.unibo.crossyroad.model.api.GameEventRing;
 import it.unibo.crossyroad.model.api.managers.GameManager;
-import it.unibo.crossyroad.model.api.GameParameters;
 import it.unibo.crossyroad.view.api.GameView;
 import it.unibo.crossyroad.view.api.UserInput;
 
@@ -22,12 +27,18 @@ import it.unibo.crossyroad.view.api.UserInput;
  */
 public final class GameControllerImpl implements GameController {
 
+    private static final int DEFAULT_TICKS_PER_SECOND = 100;
+    private static final int MAX_CATCH_UP_STEPS = 5;
+
     private final AppController appController;
     private final GameView gameView;
     private volatile boolean pause;
     private final GameManager gameManager;
-    private final GameParameters parameters;
     private final Queue<Direction> queue;
+    private final FrameBuffer frames = new FrameBuffer();
+    private final Clock clock;
+    private final int ticksPerSecond;
+    private volatile LoopMetrics loopMetrics = new LoopMetrics(0, 0, 0, 0);
 
     /**
      * Initializes the Game controller.
@@ -38,7 +49,28 @@ public final class GameControllerImpl implements GameController {
      * 
      * @param gameManager the game manager.
      * 
-     * @param parameters the game parameters.
+     * @see AppController
+     * 
+     * @see GameView
+     */
+    public GameControllerImpl(final AppController appController, final GameView gameView,
+                            final GameManager gameManager) {
+        this(appController, gameView, gameManager, Clock.SYSTEM, DEFAULT_TICKS_PER_SECOND);
+    }
+
+    /**
+     * Initializes the Game controller with a custom clock and tick rate.
+     * 
+     * @param appController the app controller.
+     * 
+     * @param gameView the game view.
+     * 
+     * @param gameManager the game manager.
+     * 
+     * @param clock the clock used by the game loop to pace the updates. The frames are still stamped
+     *     with {@link System#nanoTime()}, the time of the display pulses the view draws them at.
+     * 
+     * @param ticksPerSecond the number of updates in a second of game time.
      * 
      * @see AppController
      * 
@@ -50,11 +82,15 @@ public final class GameControllerImpl implements GameController {
             + "These components need to interact with the same instances as per MVC pattern."
     )
     public GameControllerImpl(final AppController appController, final GameView gameView,
-                            final GameManager gameManager, final GameParameters parameters) {
+                            final GameManager gameManager, final Clock clock, final int ticksPerSecond) {
+        if (ticksPerSecond <= 0) {
+            throw new IllegalArgumentException("Tick rate must be positive");
+        }
+        this.clock = Objects.requireNonNull(clock, "Clock cannot be null");
+        this.ticksPerSecond = ticksPerSecond;
         this.appController = appController;
         this.gameView = gameView;
         this.pause = false;
-        this.parameters = parameters;
         this.gameManager = gameManager;
         this.queue = new LinkedBlockingQueue<>();
     }
@@ -138,36 +174,65 @@ public final class GameControllerImpl implements GameController {
         return this.appController.getActiveSkin().getOverheadImage().toString().replace(File.separator, "/").split("/")[2];
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FrameBuffer getFrameBuffer() {
+        return this.frames;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GameEventRing getEvents() {
+        return this.gameManager.getEvents();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LoopMetrics getLoopMetrics() {
+        return this.loopMetrics;
+    }
+
+    /**
+     * Fixed-timestep game loop: every update advances the game by the same time, and the thread parks
+     * until the next update is due instead of sleeping for a fixed time. Every iteration that updated the game
+     * publishes a frame to the view, which draws the newest one at its own pace.
+     */
     private final class Loop extends Thread {
-        private static final Logger LOGGER = Logger.getLogger(Loop.class.getName());
 
         @Override
         public void run() {
+            final FixedStepScheduler scheduler = new FixedStepScheduler(ticksPerSecond, MAX_CATCH_UP_STEPS);
             gameManager.reset();
-            long lastUpdate = 0;
-            long currentTime;
-            long deltaTime;
+            scheduler.resync(clock.nanos());
 
             while (!gameManager.isGameOver()) {
                 if (!pause) {
-                    currentTime = System.currentTimeMillis();
-                    deltaTime = currentTime - lastUpdate;
-                    lastUpdate = currentTime;
-                    if (!queue.isEmpty()) {
-                        gameManager.movePlayer(queue.poll());
+                    final int steps = scheduler.stepsDue(clock.nanos());
+                    for (int i = 0; i < steps && !gameManager.isGameOver(); i++) {
+                        if (!queue.isEmpty()) {
+                            gameManager.movePlayer(queue.poll());
+                        }
+                        gameManager.update(scheduler.nextDeltaMillis());
                     }
-                    gameManager.update(deltaTime);
-                    gameView.render(gameManager.getPositionables());
-                    gameView.updatePowerUpTime(gameManager.getActivePowerUps());
-                    gameView.updateCoinCount(parameters.getCoinCount());
-                    gameView.updateScore(parameters.getScore());
+                    if (steps > 0) {
+                        final Frame frame = frames.getBackFrame();
+                        gameManager.writeFrame(frame);
+                        //The view interpolates on the time of the display pulses, whatever clock paces the loop
+                        frame.setTiming(Clock.SYSTEM.nanos(), scheduler.getStepNanos());
+                        frames.publish();
+                        loopMetrics = scheduler.getMetrics();
+                    }
+                    LockSupport.parkNanos(scheduler.nanosUntilNextStep(clock.nanos()));
                 } else {
-                    lastUpdate = System.currentTimeMillis();
-                }
-                try {
-                    sleep(10);
-                } catch (final InterruptedException e) {
-                    LOGGER.severe("Thread.sleep() error");
+                    //The time spent in pause is not game time
+                    LockSupport.parkNanos(scheduler.getStepNanos());
+                    scheduler.resync(clock.nanos());
                 }
             }
 
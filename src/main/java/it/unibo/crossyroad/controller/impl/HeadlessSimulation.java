@@ -0,0 +1,85 @@
+package it.unibo.crossyroad.controller.impl;
+
+import java.util.Objects;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import it.unibo.crossyroad.controller.api.InputSource;
+import it.unibo.crossyroad.controller.api.Simulation;
+import it.unibo.crossyroad.controller.api.SimulationResult;
+import it.unibo.crossyroad.model.api.GameParameters;
+import it.unibo.crossyroad.model.api.managers.GameManager;
+
+/**
+ * Simulation that drives a GameManager with fixed updates on a virtual clock, without a view.
+ * Each tick works like the game loop: at most one move of the player, then an update.
+ *
+ * @see Simulation
+ */
+public final class HeadlessSimulation implements Simulation {
+
+    private final GameManager gameManager;
+    private final GameParameters parameters;
+    private final VirtualClock clock;
+    private final InputSource input;
+    private final long deltaTime;
+
+    /**
+     * Initializes the simulation.
+     *
+     * @param gameManager the game manager.
+     *
+     * @param parameters the game parameters.
+     *
+     * @param clock the clock moved forward by each update.
+     *
+     * @param input the source of the moves of the player.
+     *
+     * @param deltaTime the time simulated by each update, in milliseconds.
+     *
+     * @throws IllegalArgumentException if deltaTime is not positive.
+     */
+    @SuppressFBWarnings(
+        value = "EI2",
+        justification = "The simulation drives the given game manager and clock, which are shared with the caller."
+    )
+    public HeadlessSimulation(final GameManager gameManager, final GameParameters parameters,
+                              final VirtualClock clock, final InputSource input, final long deltaTime) {
+        if (deltaTime <= 0) {
+            throw new IllegalArgumentException("Delta time must be positive");
+        }
+        this.gameManager = Objects.requireNonNull(gameManager, "Game manager cannot be null");
+        this.parameters = Objects.requireNonNull(parameters, "Game parameters cannot be null");
+        this.clock = Objects.requireNonNull(clock, "Clock cannot be null");
+        this.input = Objects.requireNonNull(input, "Input source cannot be null");
+        this.deltaTime = deltaTime;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SimulationResult run(final long maxTicks) {
+        if (maxTicks < 0) {
+            throw new IllegalArgumentException("Tick limit cannot be negative");
+        }
+        this.gameManager.reset();
+        final long start = this.clock.millis();
+        long ticks = 0;
+
+        while (!this.gameManager.isGameOver() && ticks < maxTicks) {
+            this.input.poll(this.clock.millis() - start).ifPresent(this.gameManager::movePlayer);
+            this.gameManager.update(this.deltaTime);
+            this.clock.advance(this.deltaTime);
+            ticks++;
+        }
+
+        return new SimulationResult(
+            ticks,
+            this.clock.millis() - start,
+            this.parameters.getScore(),
+            this.parameters.getCoinCount(),
+            this.gameManager.isGameOver()
+        );
+    }
+}
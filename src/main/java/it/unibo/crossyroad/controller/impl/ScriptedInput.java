@@ -0,0 +1,63 @@
+package it.unibo.crossyroad.controller.impl;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import it.unibo.crossyroad.controller.api.InputSource;
+import it.unibo.crossyroad.model.api.Direction;
+import it.unibo.crossyroad.model.api.Pair;
+
+/**
+ * Input source that replays a list of timed moves. Moves due at the same time are
+ * returned on consecutive polls, in the order they were given.
+ *
+ * @see InputSource
+ */
+public final class ScriptedInput implements InputSource {
+
+    private final Deque<Pair<Long, Direction>> script;
+
+    /**
+     * Initializes the script.
+     *
+     * @param moves the moves, each one with the time since the start of the game when it's due.
+     */
+    public ScriptedInput(final List<Pair<Long, Direction>> moves) {
+        Objects.requireNonNull(moves, "Moves cannot be null");
+        this.script = new ArrayDeque<>(moves.stream()
+                                            .sorted(Comparator.comparing(Pair::e1))
+                                            .toList());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Direction> poll(final long time) {
+        if (!this.script.isEmpty() && this.script.peekFirst().e1() <= time) {
+            return Optional.of(this.script.pollFirst().e2());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getNextTime(final long time) {
+        return this.script.isEmpty() ? Long.MAX_VALUE : Math.max(time, this.script.peekFirst().e1());
+    }
+
+    /**
+     * Tells if every move of the script was returned.
+     *
+     * @return true if there are no moves left.
+     */
+    public boolean isDone() {
+        return this.script.isEmpty();
+    }
+}
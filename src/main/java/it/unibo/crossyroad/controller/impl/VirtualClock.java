@@ -0,0 +1,35 @@
+package it.unibo.crossyroad.controller.impl;
+
+import it.unibo.crossyroad.controller.api.Clock;
+
+/**
+ * Clock that only moves when told to, used to simulate games faster than real time.
+ *
+ * @see Clock
+ */
+public final class VirtualClock implements Clock {
+
+    private long now;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long nanos() {
+        return this.now;
+    }
+
+    /**
+     * Moves the clock forward.
+     *
+     * @param deltaTime the time to add, in milliseconds.
+     *
+     * @throws IllegalArgumentException if deltaTime is negative.
+     */
+    public void advance(final long deltaTime) {
+        if (deltaTime < 0) {
+            throw new IllegalArgumentException("Delta time cannot be negative");
+        }
+        this.now += deltaTime * NANOS_PER_MILLI;
+    }
+}
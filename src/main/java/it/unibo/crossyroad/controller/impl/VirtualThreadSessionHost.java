@@ -0,0 +1,118 @@
+package it.unibo.crossyroad.controller.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+import java.util.function.IntFunction;
+
+import it.unibo.crossyroad.controller.api.HostReport;
+import it.unibo.crossyroad.controller.api.InputSource;
+import it.unibo.crossyroad.controller.api.SessionHost;
+import it.unibo.crossyroad.controller.api.Simulation;
+import it.unibo.crossyroad.controller.api.SimulationResult;
+import it.unibo.crossyroad.model.api.GameParameters;
+import it.unibo.crossyroad.model.api.managers.GameManager;
+import it.unibo.crossyroad.model.impl.GameParametersImpl;
+import it.unibo.crossyroad.model.impl.managers.GameManagerImpl;
+
+/**
+ * Session host that gives each session its own virtual thread. The virtual threads share a carrier pool
+ * with one thread per processor, so thousands of sessions don't need thousands of OS threads.
+ * Every session owns its game manager, parameters, clock and random generators, so sessions don't contend
+ * on shared state.
+ *
+ * @see SessionHost
+ */
+public final class VirtualThreadSessionHost implements SessionHost {
+
+    private final IntFunction<Simulation> sessionFactory;
+
+    /**
+     * Initializes the host.
+     *
+     * @param sessionFactory creates the simulation of the session with the given index.
+     */
+    public VirtualThreadSessionHost(final IntFunction<Simulation> sessionFactory) {
+        this.sessionFactory = Objects.requireNonNull(sessionFactory, "Session factory cannot be null");
+    }
+
+    /**
+     * Creates a host whose sessions are headless games with fresh game managers and parameters.
+     *
+     * @param inputFactory creates the input source of the session with the given index.
+     *
+     * @param deltaTime the time simulated by each update, in milliseconds.
+     *
+     * @return the host.
+     */
+    public static VirtualThreadSessionHost headless(final IntFunction<InputSource> inputFactory, final long deltaTime) {
+        return headless(inputFactory, deltaTime, (parameters, i) -> new GameManagerImpl(parameters));
+    }
+
+    /**
+     * Creates a host whose sessions are headless games generated from a seed: the session with index i
+     * uses the seed plus i, so a run of the host can be repeated exactly.
+     *
+     * @param inputFactory creates the input source of the session with the given index.
+     *
+     * @param deltaTime the time simulated by each update, in milliseconds.
+     *
+     * @param seed the seed of the first session.
+     *
+     * @return the host.
+     */
+    public static VirtualThreadSessionHost headless(final IntFunction<InputSource> inputFactory, final long deltaTime,
+                                                    final long seed) {
+        return headless(inputFactory, deltaTime, (parameters, i) -> new GameManagerImpl(parameters, seed + i));
+    }
+
+    private static VirtualThreadSessionHost headless(final IntFunction<InputSource> inputFactory, final long deltaTime,
+                                                     final BiFunction<GameParameters, Integer, GameManager> managers) {
+        Objects.requireNonNull(inputFactory, "Input factory cannot be null");
+        return new VirtualThreadSessionHost(i -> {
+            final GameParameters parameters = new GameParametersImpl();
+            return new HeadlessSimulation(
+                managers.apply(parameters, i), parameters, new VirtualClock(), inputFactory.apply(i), deltaTime
+            );
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException if a session fails or the host is interrupted while waiting.
+     */
+    @Override
+    public HostReport run(final int sessions, final long maxTicks) {
+        if (sessions < 0) {
+            throw new IllegalArgumentException("The number of sessions cannot be negative");
+        }
+        final long start = System.nanoTime();
+        final List<Future<SimulationResult>> futures = new ArrayList<>(sessions);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < sessions; i++) {
+                final int index = i;
+                futures.add(executor.submit(() -> this.sessionFactory.apply(index).run(maxTicks)));
+            }
+            final List<SimulationResult> results = new ArrayList<>(sessions);
+            for (final Future<SimulationResult> future : futures) {
+                results.add(future.get());
+            }
+            return new HostReport(
+                results,
+                Math.max(1, System.nanoTime() - start),
+                Runtime.getRuntime().availableProcessors()
+            );
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the sessions", e);
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException("A session failed", e.getCause());
+        }
+    }
+}
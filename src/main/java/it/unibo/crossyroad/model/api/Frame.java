@@ -0,0 +1,309 @@
+package it.unibo.crossyroad.model.api;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Compact snapshot of the game, handed from the game loop to the view through a {@link FrameBuffer}.
+ * The elements are stored in primitive arrays, in world coordinates, with their position at the last update
+ * and at the one before, so that the view can interpolate between them. The arrays only grow: a frame is
+ * cleared and written again instead of being allocated at every update.
+ *
+ * <p>A frame is written by a single thread, then published. Once published it must not be written again
+ * until the buffer hands it back, so the reader sees it as immutable.
+ */
+public final class Frame {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final long NO_POWER_UP = -1;
+    private static final EntityType[] TYPES = EntityType.values();
+
+    private int[] type = new int[INITIAL_CAPACITY];
+    private double[] x = new double[INITIAL_CAPACITY];
+    private double[] y = new double[INITIAL_CAPACITY];
+    private double[] width = new double[INITIAL_CAPACITY];
+    private double[] height = new double[INITIAL_CAPACITY];
+    private double[] previousX = new double[INITIAL_CAPACITY];
+    private double[] previousY = new double[INITIAL_CAPACITY];
+    private int size;
+
+    private final long[] powerUps = new long[TYPES.length];
+    private double scrollOffset;
+    private double previousScrollOffset;
+    private int coins;
+    private int score;
+    private long backgroundVersion;
+    private long publishedAt;
+    private long stepNanos;
+    private boolean fresh;
+
+    /**
+     * Creates an empty frame.
+     */
+    public Frame() {
+        Arrays.fill(this.powerUps, NO_POWER_UP);
+    }
+
+    /**
+     * Empties the frame, so that it can be written again.
+     */
+    public void clear() {
+        this.size = 0;
+        Arrays.fill(this.powerUps, NO_POWER_UP);
+        this.scrollOffset = 0;
+        this.previousScrollOffset = 0;
+        this.coins = 0;
+        this.score = 0;
+        this.backgroundVersion = 0;
+    }
+
+    /**
+     * Adds an element to the frame.
+     *
+     * @param entityType the type of the element.
+     * @param box the position at the last update.
+     * @param dimension the dimension of the element.
+     * @param previous the position at the update before the last one.
+     */
+    public void add(final EntityType entityType, final Position box, final Dimension dimension, final Position previous) {
+        Objects.requireNonNull(entityType, "Entity type cannot be null");
+        if (this.size == this.type.length) {
+            this.grow();
+        }
+        this.type[this.size] = entityType.ordinal();
+        this.x[this.size] = box.x();
+        this.y[this.size] = box.y();
+        this.width[this.size] = dimension.width();
+        this.height[this.size] = dimension.height();
+        this.previousX[this.size] = previous.x();
+        this.previousY[this.size] = previous.y();
+        this.size++;
+    }
+
+    /**
+     * Adds an active power up. When a type is added more than once, the shortest remaining time is kept.
+     *
+     * @param powerUp the type of the power up.
+     * @param remaining the remaining lifetime, in milliseconds.
+     * @throws IllegalArgumentException if the type is not a power up or the remaining time is negative.
+     */
+    public void addPowerUp(final EntityType powerUp, final long remaining) {
+        if (!powerUp.isPowerup() || remaining < 0) {
+            throw new IllegalArgumentException("Not an active power up");
+        }
+        final int index = powerUp.ordinal();
+        this.powerUps[index] = this.powerUps[index] == NO_POWER_UP ? remaining : Math.min(this.powerUps[index], remaining);
+    }
+
+    /**
+     * Sets the scroll offset.
+     *
+     * @param current the scroll offset at the last update.
+     * @param previous the scroll offset at the update before the last one.
+     */
+    public void setScrollOffset(final double current, final double previous) {
+        this.scrollOffset = current;
+        this.previousScrollOffset = previous;
+    }
+
+    /**
+     * Sets the counters of the game.
+     *
+     * @param coinCount the coin count.
+     * @param currentScore the score.
+     */
+    public void setCounters(final int coinCount, final int currentScore) {
+        this.coins = coinCount;
+        this.score = currentScore;
+    }
+
+    /**
+     * Sets the version of the elements that never move, such as the Chunks and the passive obstacles.
+     * It changes whenever one of them appears or disappears, so that the view knows when to draw them again.
+     *
+     * @param version the version of the still elements.
+     */
+    public void setBackgroundVersion(final long version) {
+        this.backgroundVersion = version;
+    }
+
+    /**
+     * Sets when the frame was published and the time between two updates, which drive the interpolation.
+     *
+     * @param time the time the frame is published, on the {@link System#nanoTime()} scale.
+     * @param step the game time between two updates, in nanoseconds.
+     * @throws IllegalArgumentException if the step is not positive.
+     */
+    public void setTiming(final long time, final long step) {
+        if (step <= 0) {
+            throw new IllegalArgumentException("Step length must be positive");
+        }
+        this.publishedAt = time;
+        this.stepNanos = step;
+    }
+
+    /**
+     * Returns the number of elements in the frame.
+     *
+     * @return the number of elements.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the type of an element.
+     *
+     * @param index the index of the element.
+     * @return the type.
+     */
+    public EntityType getType(final int index) {
+        return TYPES[this.type[index]];
+    }
+
+    /**
+     * Computes the x coordinate of an element between the last two updates.
+     *
+     * @param index the index of the element.
+     * @param alpha how far from the update before the last one, from 0 to 1.
+     * @return the interpolated x coordinate.
+     */
+    public double getX(final int index, final double alpha) {
+        return this.previousX[index] + (this.x[index] - this.previousX[index]) * alpha;
+    }
+
+    /**
+     * Computes the y coordinate of an element between the last two updates.
+     *
+     * @param index the index of the element.
+     * @param alpha how far from the update before the last one, from 0 to 1.
+     * @return the interpolated y coordinate.
+     */
+    public double getY(final int index, final double alpha) {
+        return this.previousY[index] + (this.y[index] - this.previousY[index]) * alpha;
+    }
+
+    /**
+     * Returns the width of an element.
+     *
+     * @param index the index of the element.
+     * @return the width.
+     */
+    public double getWidth(final int index) {
+        return this.width[index];
+    }
+
+    /**
+     * Returns the height of an element.
+     *
+     * @param index the index of the element.
+     * @return the height.
+     */
+    public double getHeight(final int index) {
+        return this.height[index];
+    }
+
+    /**
+     * Computes the scroll offset between the last two updates.
+     *
+     * @param alpha how far from the update before the last one, from 0 to 1.
+     * @return the interpolated scroll offset.
+     */
+    public double getScrollOffset(final double alpha) {
+        return this.previousScrollOffset + (this.scrollOffset - this.previousScrollOffset) * alpha;
+    }
+
+    /**
+     * Checks if a power up is active.
+     *
+     * @param powerUp the type of the power up.
+     * @return true if the power up is active.
+     */
+    public boolean isPowerUpActive(final EntityType powerUp) {
+        return this.powerUps[powerUp.ordinal()] != NO_POWER_UP;
+    }
+
+    /**
+     * Returns the remaining lifetime of an active power up.
+     *
+     * @param powerUp the type of the power up.
+     * @return the remaining lifetime, in milliseconds.
+     * @throws IllegalStateException if the power up is not active.
+     */
+    public long getPowerUpRemaining(final EntityType powerUp) {
+        if (!this.isPowerUpActive(powerUp)) {
+            throw new IllegalStateException("The power up is not active");
+        }
+        return this.powerUps[powerUp.ordinal()];
+    }
+
+    /**
+     * Returns the coin count.
+     *
+     * @return the coin count.
+     */
+    public int getCoins() {
+        return this.coins;
+    }
+
+    /**
+     * Returns the score.
+     *
+     * @return the score.
+     */
+    public int getScore() {
+        return this.score;
+    }
+
+    /**
+     * Returns the version of the elements that never move.
+     *
+     * @return the version of the still elements.
+     */
+    public long getBackgroundVersion() {
+        return this.backgroundVersion;
+    }
+
+    /**
+     * Computes how far between the last two updates the frame should be drawn at the given time.
+     * The frame shows the update before the last one when it's published, and reaches the last one
+     * a step later, when the next frame is due. A frame that was never published is shown at the last update.
+     *
+     * @param now the time, on the {@link System#nanoTime()} scale.
+     * @return the interpolation factor, from 0 to 1.
+     */
+    public double alphaAt(final long now) {
+        if (this.stepNanos == 0) {
+            return 1.0;
+        }
+        return Math.clamp((double) (now - this.publishedAt) / this.stepNanos, 0.0, 1.0);
+    }
+
+    /**
+     * Tells whether the frame was published and not yet taken by the reader.
+     *
+     * @return true if the frame is newer than the one held by the reader.
+     */
+    boolean isFresh() {
+        return this.fresh;
+    }
+
+    /**
+     * Marks the frame as published or as taken by the reader.
+     *
+     * @param value true when the frame is published.
+     */
+    void setFresh(final boolean value) {
+        this.fresh = value;
+    }
+
+    private void grow() {
+        final int capacity = this.type.length * 2;
+        this.type = Arrays.copyOf(this.type, capacity);
+        this.x = Arrays.copyOf(this.x, capacity);
+        this.y = Arrays.copyOf(this.y, capacity);
+        this.width = Arrays.copyOf(this.width, capacity);
+        this.height = Arrays.copyOf(this.height, capacity);
+        this.previousX = Arrays.copyOf(this.previousX, capacity);
+        this.previousY = Arrays.copyOf(this.previousY, capacity);
+    }
+}
@@ -0,0 +1,61 @@
+package it.unibo.crossyroad.model.api;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Triple buffer of {@link Frame}s between one writer thread and one reader thread. The writer fills
+ * its back frame and publishes it, the reader takes the newest published frame when it needs one.
+ * Neither ever waits for the other: the writer always has a frame to write, the reader always has
+ * a complete frame to read, and frames published while the reader was busy are dropped.
+ * The three frames are reused for the whole game.
+ */
+public final class FrameBuffer {
+
+    private final AtomicReference<Frame> shared = new AtomicReference<>(new Frame());
+    private Frame back = new Frame();
+    private Frame front = new Frame();
+
+    /**
+     * Returns the frame the writer fills before publishing it. Only the writer thread may call it.
+     *
+     * @return the back frame.
+     */
+    public Frame getBackFrame() {
+        return this.back;
+    }
+
+    /**
+     * Publishes the back frame, and takes a frame that's not in use as the new back frame.
+     * Only the writer thread may call it.
+     */
+    public void publish() {
+        this.back.setFresh(true);
+        this.back = this.shared.getAndSet(this.back);
+    }
+
+    /**
+     * Takes the newest published frame, if one was published since the last call.
+     * Only the reader thread may call it.
+     *
+     * @return true if the front frame changed.
+     */
+    public boolean refresh() {
+        if (!this.shared.get().isFresh()) {
+            return false;
+        }
+        //Only the writer can swap the shared frame in between, and it only publishes fresh frames
+        this.front.setFresh(false);
+        this.front = this.shared.getAndSet(this.front);
+        return true;
+    }
+
+    /**
+     * Returns the frame the reader draws. It doesn't change until the next {@link #refresh()}.
+     * Only the reader thread may call it.
+     *
+     * @return the front frame, empty if nothing was published yet.
+     */
+    public Frame getFrontFrame() {
+        return this.front;
+    }
+}
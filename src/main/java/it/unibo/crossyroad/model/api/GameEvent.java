@@ -0,0 +1,49 @@
+package it.unibo.crossyroad.model.api;
+
+/**
+ * The things that can happen during a game, published by the model into a {@link GameEventRing}.
+ * Every event comes with the {@link EntityType} it's about and a value, whose meaning depends on the event.
+ */
+public enum GameEvent {
+    /**
+     * A new game started. The subject is the player, the value is the coin count.
+     */
+    GAME_RESET,
+
+    /**
+     * The player picked up a coin. The subject is the coin, the value is the new coin count.
+     */
+    COIN_PICKED,
+
+    /**
+     * The player picked up a power up that wasn't active. The subject is the power up, the value is its lifetime,
+     * in milliseconds.
+     */
+    POWER_UP_ACTIVATED,
+
+    /**
+     * The player picked up a power up that was already active. The subject is the power up, the value is its new
+     * remaining lifetime, in milliseconds.
+     */
+    POWER_UP_EXTENDED,
+
+    /**
+     * A power up ran out. The subject is the power up, the value is 0.
+     */
+    POWER_UP_EXPIRED,
+
+    /**
+     * The player went forward. The subject is the player, the value is the new score.
+     */
+    SCORE_INCREMENTED,
+
+    /**
+     * A new Chunk was added at the top of the map. The subject is the type of the Chunk, the value is its world y.
+     */
+    CHUNK_GENERATED,
+
+    /**
+     * The game ended. The subject is the player, the value is the final score.
+     */
+    GAME_OVER
+}
@@ -0,0 +1,153 @@
+package it.unibo.crossyroad.model.api;
+
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ring of {@link GameEvent}s written by one thread, the game loop, and read by any number of subscribers,
+ * each at its own pace through its own {@link Cursor}. The events are stored in primitive arrays, so publishing
+ * one allocates nothing, and the writer never waits: a subscriber that falls more than a ring behind loses the
+ * oldest events, and is told how many.
+ */
+public final class GameEventRing {
+    private static final GameEvent[] EVENTS = GameEvent.values();
+    private static final EntityType[] TYPES = EntityType.values();
+
+    private final int mask;
+    private final int[] event;
+    private final int[] subject;
+    private final long[] value;
+    //Number of events the writer started writing, and number of events it finished writing
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong published = new AtomicLong();
+
+    /**
+     * Listens to the events read by a {@link Cursor}.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        /**
+         * Called for every event, in the order they were published.
+         *
+         * @param gameEvent what happened.
+         * @param type the type of the element it happened to.
+         * @param eventValue the value of the event, see {@link GameEvent}.
+         */
+        void onEvent(GameEvent gameEvent, EntityType type, long eventValue);
+    }
+
+    /**
+     * Creates an empty ring.
+     *
+     * @param capacity the number of events kept for the subscribers, a power of two.
+     * @throws IllegalArgumentException if the capacity is not a positive power of two.
+     */
+    public GameEventRing(final int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a positive power of two");
+        }
+        this.mask = capacity - 1;
+        this.event = new int[capacity];
+        this.subject = new int[capacity];
+        this.value = new long[capacity];
+    }
+
+    /**
+     * Publishes an event. Only the writer thread may call it.
+     *
+     * @param gameEvent what happened.
+     * @param type the type of the element it happened to.
+     * @param eventValue the value of the event, see {@link GameEvent}.
+     */
+    public void publish(final GameEvent gameEvent, final EntityType type, final long eventValue) {
+        Objects.requireNonNull(gameEvent, "Event cannot be null");
+        Objects.requireNonNull(type, "Entity type cannot be null");
+        final long sequence = this.published.get();
+        //Readers of the slot being overwritten must see the claim before any of the new values
+        this.claimed.set(sequence + 1);
+        VarHandle.storeStoreFence();
+        final int slot = (int) sequence & this.mask;
+        this.event[slot] = gameEvent.ordinal();
+        this.subject[slot] = type.ordinal();
+        this.value[slot] = eventValue;
+        this.published.set(sequence + 1);
+    }
+
+    /**
+     * Returns the number of events published so far.
+     *
+     * @return the number of published events.
+     */
+    public long getPublished() {
+        return this.published.get();
+    }
+
+    /**
+     * Creates a subscriber that reads the events published from now on. Any thread may call it.
+     *
+     * @return the cursor of the new subscriber.
+     */
+    public Cursor subscribe() {
+        return new Cursor(this.published.get());
+    }
+
+    /**
+     * The position of a subscriber in the ring. A cursor must be used by one thread at a time.
+     */
+    public final class Cursor {
+        private long next;
+        private long dropped;
+
+        private Cursor(final long start) {
+            this.next = start;
+        }
+
+        /**
+         * Hands the events published since the last call to a listener.
+         *
+         * @param listener the listener.
+         * @return the number of events handed to the listener.
+         */
+        public int poll(final Listener listener) {
+            Objects.requireNonNull(listener, "Listener cannot be null");
+            final long available = published.get();
+            final int capacity = mask + 1;
+            int count = 0;
+            while (this.next < available) {
+                if (available - this.next > capacity) {
+                    this.skipTo(available - capacity);
+                }
+                final int slot = (int) this.next & mask;
+                final int readEvent = event[slot];
+                final int readSubject = subject[slot];
+                final long readValue = value[slot];
+                //The values must be read before checking that the writer didn't start overwriting them
+                VarHandle.acquireFence();
+                final long overwrite = claimed.get() - capacity;
+                if (overwrite > this.next) {
+                    this.skipTo(overwrite);
+                    continue;
+                }
+                listener.onEvent(EVENTS[readEvent], TYPES[readSubject], readValue);
+                this.next++;
+                count++;
+            }
+            return count;
+        }
+
+        /**
+         * Returns the number of events this subscriber lost because it fell more than a ring behind.
+         *
+         * @return the number of lost events.
+         */
+        public long getDropped() {
+            return this.dropped;
+        }
+
+        private void skipTo(final long sequence) {
+            this.dropped += sequence - this.next;
+            this.next = sequence;
+        }
+    }
+}
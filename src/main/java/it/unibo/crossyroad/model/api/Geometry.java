@@ -0,0 +1,83 @@
+package it.unibo.crossyroad.model.api;
+
+/**
+ * Primitive geometry on axis-aligned boxes. The extent of a box on an axis is half-open:
+ * a box at x with width w covers [x, x + w). None of the methods allocates, so they can be used
+ * on the checks run for every entity at every update.
+ */
+public final class Geometry {
+
+    /**
+     * Constructor of utility class.
+     */
+    private Geometry() {
+
+    }
+
+    /**
+     * Checks if two half-open intervals share at least one point.
+     *
+     * @param start1 the start of the first interval, included.
+     * @param length1 the length of the first interval (> 0).
+     * @param start2 the start of the second interval, included.
+     * @param length2 the length of the second interval (> 0).
+     * @return true if the intervals intersect.
+     */
+    public static boolean intervalsOverlap(final double start1, final double length1,
+                                           final double start2, final double length2) {
+        return start1 < start2 + length2 && start2 < start1 + length1;
+    }
+
+    /**
+     * Checks if a half-open interval contains a value.
+     *
+     * @param start the start of the interval, included.
+     * @param length the length of the interval.
+     * @param value the value to check.
+     * @return true if start <= value < start + length.
+     */
+    public static boolean intervalContains(final double start, final double length, final double value) {
+        return start <= value && value < start + length;
+    }
+
+    /**
+     * Checks if a value lies between two bounds, both included.
+     *
+     * @param value the value to check.
+     * @param min the lower bound.
+     * @param max the upper bound.
+     * @return true if min <= value <= max.
+     */
+    public static boolean isBetween(final double value, final double min, final double max) {
+        return min <= value && value <= max;
+    }
+
+    /**
+     * Checks if the boxes of two Positionables overlap.
+     *
+     * @param first the first Positionable.
+     * @param second the second Positionable.
+     * @return true if the boxes share at least one point.
+     */
+    public static boolean overlaps(final Positionable first, final Positionable second) {
+        final Position p1 = first.getPosition();
+        final Position p2 = second.getPosition();
+        final Dimension d1 = first.getDimension();
+        final Dimension d2 = second.getDimension();
+        return intervalsOverlap(p1.x(), d1.width(), p2.x(), d2.width())
+            && intervalsOverlap(p1.y(), d1.height(), p2.y(), d2.height());
+    }
+
+    /**
+     * Checks if the box of a Positionable contains a point.
+     *
+     * @param box the Positionable.
+     * @param point the point to check.
+     * @return true if the point is inside the box.
+     */
+    public static boolean contains(final Positionable box, final Position point) {
+        final Position p = box.getPosition();
+        final Dimension d = box.getDimension();
+        return intervalContains(p.x(), d.width(), point.x()) && intervalContains(p.y(), d.height(), point.y());
+    }
+}
@@ -0,0 +1,244 @@
+package it.unibo.crossyroad.model.api;
+
+import java.util.Objects;
+
+/**
+ * Hashed timing wheel running on game time: timers are hashed into a ring of slots by the tick they are due at,
+ * so scheduling and cancelling take constant time, and moving the time forward only looks at the slots of the
+ * ticks that went by. A timer never fires before its deadline, and at most a tick after it.
+ * Timers due in the same tick fire in the order they were scheduled.
+ *
+ * <p>The wheel is not thread safe: it's meant to be used by the thread driving the game.
+ */
+public final class TimingWheel {
+    private static final long DEFAULT_TICK_MILLIS = 10;
+    private static final int DEFAULT_SLOTS = 512;
+
+    private final long tickMillis;
+    private final int mask;
+    private final Timer[] heads;
+    private final Timer[] tails;
+    private long now;
+    private long currentTick;
+    private int size;
+
+    /**
+     * Creates a wheel with ticks of 10 milliseconds, the length of an update of the game.
+     */
+    public TimingWheel() {
+        this(DEFAULT_TICK_MILLIS, DEFAULT_SLOTS);
+    }
+
+    /**
+     * Creates a wheel.
+     *
+     * @param tickMillis the length of a tick, in milliseconds.
+     * @param slots the number of slots, a power of two.
+     * @throws IllegalArgumentException if the tick is not positive or the slots are not a power of two.
+     */
+    public TimingWheel(final long tickMillis, final int slots) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick length must be positive");
+        }
+        if (slots <= 0 || Integer.bitCount(slots) != 1) {
+            throw new IllegalArgumentException("Slots must be a positive power of two");
+        }
+        this.tickMillis = tickMillis;
+        this.mask = slots - 1;
+        this.heads = new Timer[slots];
+        this.tails = new Timer[slots];
+    }
+
+    /**
+     * Schedules a task.
+     *
+     * @param delay the time from now, in milliseconds.
+     * @param task the task to run when the timer is due.
+     * @return the timer, which can be cancelled.
+     * @throws IllegalArgumentException if the delay is negative.
+     */
+    public Timer schedule(final long delay, final Runnable task) {
+        Objects.requireNonNull(task, "Task cannot be null");
+        if (delay < 0) {
+            throw new IllegalArgumentException("Delay cannot be negative");
+        }
+        final Timer timer = new Timer(this.now + delay, task);
+        //A timer due now fires at the next advance, since the slot of the current tick was already visited
+        timer.tick = Math.max(Math.ceilDiv(timer.deadline, this.tickMillis), this.currentTick + 1);
+        this.link(timer);
+        this.size++;
+        return timer;
+    }
+
+    /**
+     * Moves the time forward, running the tasks of the timers that became due.
+     *
+     * @param deltaTime the time since the last advance, in milliseconds.
+     * @throws IllegalArgumentException if the time is negative.
+     */
+    public void advance(final long deltaTime) {
+        if (deltaTime < 0) {
+            throw new IllegalArgumentException("Time cannot go backwards");
+        }
+        this.now += deltaTime;
+        final long target = Math.floorDiv(this.now, this.tickMillis);
+        while (this.currentTick < target) {
+            if (this.size == 0) {
+                this.currentTick = target;
+                return;
+            }
+            this.currentTick++;
+            this.fire((int) this.currentTick & this.mask);
+        }
+    }
+
+    /**
+     * Returns the game time, the sum of all the advances.
+     *
+     * @return the time, in milliseconds.
+     */
+    public long now() {
+        return this.now;
+    }
+
+    /**
+     * Returns how far the time must be moved forward for the next timer to fire: advancing by less fires nothing.
+     *
+     * @return the time to the next timer, in milliseconds, or Long.MAX_VALUE if there are no timers.
+     */
+    public long getTimeToNext() {
+        long first = Long.MAX_VALUE;
+        //The slots are visited in the order of their ticks, a round of the wheel at most
+        for (int i = 1; i <= this.heads.length && this.size > 0; i++) {
+            final long tick = this.currentTick + i;
+            for (Timer timer = this.heads[(int) tick & this.mask]; timer != null; timer = timer.next) {
+                if (timer.tick == tick) {
+                    return tick * this.tickMillis - this.now;
+                }
+                first = Math.min(first, timer.tick);
+            }
+        }
+        return first == Long.MAX_VALUE ? Long.MAX_VALUE : first * this.tickMillis - this.now;
+    }
+
+    /**
+     * Returns the number of timers that didn't fire and weren't cancelled.
+     *
+     * @return the number of pending timers.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    private void fire(final int slot) {
+        //The due timers are taken out of the slot first, since their tasks can schedule and cancel timers
+        Timer due = null;
+        Timer lastDue = null;
+        Timer timer = this.heads[slot];
+        while (timer != null) {
+            final Timer next = timer.next;
+            if (timer.tick <= this.currentTick) {
+                this.unlink(timer);
+                if (lastDue == null) {
+                    due = timer;
+                } else {
+                    lastDue.next = timer;
+                }
+                lastDue = timer;
+            }
+            timer = next;
+        }
+        while (due != null) {
+            final Timer next = due.next;
+            due.next = null;
+            if (due.pending) {
+                due.pending = false;
+                this.size--;
+                due.task.run();
+            }
+            due = next;
+        }
+    }
+
+    private void link(final Timer timer) {
+        final int slot = (int) timer.tick & this.mask;
+        timer.previous = this.tails[slot];
+        if (this.tails[slot] == null) {
+            this.heads[slot] = timer;
+        } else {
+            this.tails[slot].next = timer;
+        }
+        this.tails[slot] = timer;
+        timer.linked = true;
+    }
+
+    private void unlink(final Timer timer) {
+        final int slot = (int) timer.tick & this.mask;
+        if (timer.previous == null) {
+            this.heads[slot] = timer.next;
+        } else {
+            timer.previous.next = timer.next;
+        }
+        if (timer.next == null) {
+            this.tails[slot] = timer.previous;
+        } else {
+            timer.next.previous = timer.previous;
+        }
+        timer.previous = null;
+        timer.next = null;
+        timer.linked = false;
+    }
+
+    /**
+     * A task scheduled on the wheel.
+     */
+    public final class Timer {
+        private final long deadline;
+        private final Runnable task;
+        private long tick;
+        private Timer previous;
+        private Timer next;
+        private boolean linked;
+        private boolean pending = true;
+
+        private Timer(final long deadline, final Runnable task) {
+            this.deadline = deadline;
+            this.task = task;
+        }
+
+        /**
+         * Returns the game time the timer is due at.
+         *
+         * @return the deadline, in milliseconds.
+         */
+        public long getDeadline() {
+            return this.deadline;
+        }
+
+        /**
+         * Tells whether the timer is still to fire.
+         *
+         * @return true if the timer didn't fire and wasn't cancelled.
+         */
+        public boolean isPending() {
+            return this.pending;
+        }
+
+        /**
+         * Cancels the timer, so that its task doesn't run.
+         *
+         * @return true if the timer was pending.
+         */
+        public boolean cancel() {
+            if (!this.pending) {
+                return false;
+            }
+            this.pending = false;
+            size--;
+            if (this.linked) {
+                unlink(this);
+            }
+            return true;
+        }
+    }
+}
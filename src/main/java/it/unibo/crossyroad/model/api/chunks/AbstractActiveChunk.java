@@ -1,18 +1,41 @@
 package it.unibo.crossyroad.model.api.chunks;
 
-import com.google.common.collect.Range;
+import it.unibo.crossyroad.model.api.obstacles.AbstractActiveObstacle;
 import it.unibo.crossyroad.model.api.obstacles.ActiveObstacle;
+import it.unibo.crossyroad.model.api.obstacles.ActiveObstacleStore;
 import it.unibo.crossyroad.model.api.Dimension;
 import it.unibo.crossyroad.model.api.GameParameters;
+import it.unibo.crossyroad.model.api.Geometry;
 import it.unibo.crossyroad.model.api.obstacles.Obstacle;
 import it.unibo.crossyroad.model.api.Position;
+import it.unibo.crossyroad.model.api.Positionable;
+import it.unibo.crossyroad.model.api.TimingWheel;
 
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Objects;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a chunk with active obstacles on top of it.
+ * The active obstacles are kept in an {@link ActiveObstacleStore}, which moves all of them in a single loop.
+ * New obstacles are spawned by a timer on a {@link TimingWheel}, rescheduled after every spawn: the Chunk
+ * advances a wheel of its own in update, until it's given the shared wheel of the game.
  */
 public abstract class AbstractActiveChunk extends AbstractChunk {
+    private static final double OUT_OF_BOUND_MARGIN = 3;
+    private static final long NOT_SCHEDULED = -1;
+
+    private final ActiveObstacleStore movingObstacles = new ActiveObstacleStore();
+    private final List<ActiveObstacle> otherActiveObstacles = new LinkedList<>();
+    private final Runnable spawnTask = this::onSpawnTimer;
+    private TimingWheel timers = new TimingWheel();
+    private boolean sharedTimers;
+    private TimingWheel.Timer spawnTimer;
+    private long spawnInterval = NOT_SCHEDULED;
+    private long lastSpawn;
+    private boolean spawnDue;
+
     /**
      * Initializes the Chunk.
      *
@@ -23,52 +46,196 @@ public abstract class AbstractActiveChunk extends AbstractChunk {
         super(initialPosition, dimension);
     }
 
+    /**
+     * Initializes the Chunk.
+     *
+     * @param initialPosition the Chunk's initial position.
+     * @param dimension the Chunk's dimension.
+     * @param random the random generator used to generate the content of the Chunk.
+     */
+    public AbstractActiveChunk(final Position initialPosition, final Dimension dimension, final RandomGenerator random) {
+        super(initialPosition, dimension, random);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public void update(final GameParameters params, final long deltaTime) {
         Objects.requireNonNull(params, "Game parameters cannot be null");
-        this.getObstacles().stream()
-                           .filter(o -> o instanceof ActiveObstacle)
-                           .map(o -> (ActiveObstacle) o)
-                           .forEach(ao -> ao.update(deltaTime, params));
+        this.movingObstacles.advance(deltaTime, params);
+        this.otherActiveObstacles.forEach(ao -> ao.update(deltaTime, params));
+        this.markLanesMoved();
         //Updates pickables
         super.update(params, deltaTime);
         this.removeOutOfBoundObstacles();
 
-        if (this.shouldGenerateNewObstacles(deltaTime, params)) {
-            this.generateObstacles();
+        //The shared wheel is rescheduled and advanced by the game, an own wheel by the Chunk itself
+        if (!this.sharedTimers || this.spawnInterval == NOT_SCHEDULED) {
+            this.rescheduleTimers(params);
+        }
+        if (!this.sharedTimers) {
+            this.timers.advance(deltaTime);
+        }
+        if (this.mustSpawn() || this.spawnDue && this.canSpawn()) {
+            this.spawn();
         }
     }
 
     /**
-     * A method to determine if new obstacles should be generated.
+     * {@inheritDoc}
+     */
+    @Override
+    public void useTimers(final TimingWheel wheel) {
+        Objects.requireNonNull(wheel, "Timers cannot be null");
+        this.cancelTimers();
+        this.timers = wheel;
+        this.sharedTimers = true;
+        this.lastSpawn = wheel.now();
+        this.spawnInterval = NOT_SCHEDULED;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void rescheduleTimers(final GameParameters params) {
+        Objects.requireNonNull(params, "Game parameters cannot be null");
+        final long interval = this.getSpawnInterval(params);
+        if (interval != this.spawnInterval) {
+            //The next spawn keeps counting from the last one, only the interval changes
+            this.spawnInterval = interval;
+            this.scheduleSpawn(Math.max(0, this.lastSpawn + interval - this.timers.now()));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void cancelTimers() {
+        if (this.spawnTimer != null) {
+            this.spawnTimer.cancel();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getQuietTime(final Positionable box, final GameParameters params, final long limit) {
+        Objects.requireNonNull(box, "Box cannot be null");
+        Objects.requireNonNull(params, "Game parameters cannot be null");
+        if (!this.otherActiveObstacles.isEmpty() || this.mustSpawn() || this.spawnDue && this.canSpawn()
+                || this.getSpawnInterval(params) != this.spawnInterval) {
+            return 0;
+        }
+        //The timers of a shared wheel are the concern of whoever advances it
+        long time = this.sharedTimers ? limit : Math.min(limit, this.timers.getTimeToNext() - 1);
+        time = this.movingObstacles.getTimeInside(
+            this.getPosition().x(),
+            this.getPosition().x() + this.getDimension().width(),
+            OUT_OF_BOUND_MARGIN,
+            params,
+            time
+        );
+        return this.movingObstacles.getTimeApart(box, params, time);
+    }
+
+    /**
+     * Returns the time between two spawns of new obstacles.
      *
-     * @param deltaTime the time elapsed since the last update.
      * @param params the game parameters.
-     * @return true if new obstacles should be generated, false otherwise.
+     * @return the spawn interval, in milliseconds.
+     */
+    protected abstract long getSpawnInterval(GameParameters params);
+
+    /**
+     * Tells whether there is room for new obstacles. A spawn that's due while there's none waits for it.
+     *
+     * @return true if new obstacles can be generated, true by default.
+     */
+    protected boolean canSpawn() {
+        return true;
+    }
+
+    /**
+     * Tells whether new obstacles must be generated right away, without waiting for the spawn interval.
+     *
+     * @return true if new obstacles must be generated now, false by default.
+     */
+    protected boolean mustSpawn() {
+        return false;
+    }
+
+    private void onSpawnTimer() {
+        this.spawnDue = true;
+        if (this.canSpawn()) {
+            this.spawn();
+        }
+    }
+
+    private void spawn() {
+        this.generateObstacles();
+        this.lastSpawn = this.timers.now();
+        this.spawnDue = false;
+        this.scheduleSpawn(this.spawnInterval);
+    }
+
+    private void scheduleSpawn(final long delay) {
+        this.cancelTimers();
+        this.spawnTimer = this.timers.schedule(delay, this.spawnTask);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void addObstacle(final Obstacle obs) {
+        super.addObstacle(obs);
+        if (obs instanceof AbstractActiveObstacle active) {
+            this.movingObstacles.add(active);
+        } else if (obs instanceof ActiveObstacle active) {
+            this.otherActiveObstacles.add(active);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
      */
-    protected abstract boolean shouldGenerateNewObstacles(long deltaTime, GameParameters params);
+    @Override
+    protected void removeObstacle(final Obstacle obs) {
+        super.removeObstacle(obs);
+        if (obs instanceof ActiveObstacle active && !this.movingObstacles.remove(active)) {
+            this.otherActiveObstacles.remove(active);
+        }
+    }
 
     /**
      * Removes out of bound obstacles from the chunk.
      */
     private void removeOutOfBoundObstacles() {
-        this.getObstacles().stream()
-                .filter(obs -> obs instanceof ActiveObstacle && !getValidXRange(obs).contains(obs.getPosition().x()))
+        this.movingObstacles.removeOutside(
+            this.getPosition().x(),
+            this.getPosition().x() + this.getDimension().width(),
+            OUT_OF_BOUND_MARGIN
+        ).forEach(this::removeObstacle);
+        this.otherActiveObstacles.stream()
+                .filter(obs -> !isInValidXRange(obs))
+                .toList()
                 .forEach(this::removeObstacle);
     }
 
     /**
-     * Calculates the valid X-coordinate range for an obstacle.
+     * Checks if an obstacle is inside the valid X-coordinate range, from the left margin to the right one, both included.
      *
      * @param obstacle the obstacle to check
-     * @return a closed range representing the valid X-coordinates for the obstacle
+     * @return true if the X-coordinate of the obstacle is valid
      */
-    private Range<Double> getValidXRange(final Obstacle obstacle) {
-        final double margin = obstacle.getDimension().width() + 3;
-        return Range.closed(
+    private boolean isInValidXRange(final Obstacle obstacle) {
+        final double margin = obstacle.getDimension().width() + OUT_OF_BOUND_MARGIN;
+        return Geometry.isBetween(
+                obstacle.getPosition().x(),
                 this.getPosition().x() - margin,
                 this.getPosition().x() + this.getDimension().width() + margin
         );
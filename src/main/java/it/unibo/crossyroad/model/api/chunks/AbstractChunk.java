@@ -1,19 +1,25 @@
 package it.unibo.crossyroad.model.api.chunks;
 
+import java.util.BitSet;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Random;
 import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import it.unibo.crossyroad.model.api.AbstractPositionable;
-import it.unibo.crossyroad.model.api.pickables.AbstractPowerUp;
 import it.unibo.crossyroad.model.api.Dimension;
 import it.unibo.crossyroad.model.api.GameParameters;
+import it.unibo.crossyroad.model.api.obstacles.ActiveObstacle;
 import it.unibo.crossyroad.model.api.obstacles.Obstacle;
 import it.unibo.crossyroad.model.api.pickables.Pickable;
 import it.unibo.crossyroad.model.api.Position;
 import it.unibo.crossyroad.model.api.Positionable;
-import it.unibo.crossyroad.model.api.pickables.PowerUp;
+import it.unibo.crossyroad.model.api.TimingWheel;
+import it.unibo.crossyroad.model.impl.chunks.Lane;
 import it.unibo.crossyroad.model.impl.pickables.Coin;
 import it.unibo.crossyroad.model.impl.pickables.CoinMultiplier;
 import it.unibo.crossyroad.model.impl.pickables.Invincibility;
@@ -30,26 +36,51 @@ public abstract class AbstractChunk extends AbstractPositionable implements Chun
     private static final double SECOND_PROBABILITY = 0.90;
     private static final double THIRD_PROBABILITY = 0.95;
     private static final int MAX_OBSTACLES = 5;
-    private static final Random RND = new Random();
     private static final Position PLAYER_START_POSITION = new Position(5, 8);
     private final List<Obstacle> obstacles;
     private final List<Pickable> pickables;
+    private final BitSet occupiedCells;
+    private final Lane[] lanes;
+    private final RandomGenerator random;
     private boolean isFirstChunk;
 
     /**
-     * Initializes the Chunk.
+     * Initializes the Chunk, with a random generator of its own.
      * 
      * @param initialPosition the Chunk's initial position.
      * 
      * @param dimension the Chunk's dimension.
      */
     public AbstractChunk(final Position initialPosition, final Dimension dimension) {
+        this(initialPosition, dimension, new SplittableRandom());
+    }
+
+    /**
+     * Initializes the Chunk.
+     * 
+     * @param initialPosition the Chunk's initial position.
+     * 
+     * @param dimension the Chunk's dimension.
+     * 
+     * @param random the random generator used to generate the content of the Chunk.
+     */
+    @SuppressFBWarnings(
+        value = "EI2",
+        justification = "The generator is handed over to the Chunk, which is the only one using it."
+    )
+    public AbstractChunk(final Position initialPosition, final Dimension dimension, final RandomGenerator random) {
         super(initialPosition, dimension);
+        this.random = Objects.requireNonNull(random, "Random generator cannot be null");
         if (dimension.height() % 3 != 0) {
             throw new IllegalArgumentException("Chunk height must be a multiple of 3");
         }
         this.obstacles = new LinkedList<>();
         this.pickables = new LinkedList<>();
+        this.occupiedCells = new BitSet();
+        this.lanes = new Lane[(int) dimension.height()];
+        for (int i = 0; i < this.lanes.length; i++) {
+            this.lanes[i] = new Lane();
+        }
     }
 
     /**
@@ -66,6 +97,23 @@ public abstract class AbstractChunk extends AbstractPositionable implements Chun
         this.isFirstChunk = firstChunk;
     }
 
+    /**
+     * Initializes the Chunk.
+     * 
+     * @param initialPosition the Chunk's initial position.
+     * 
+     * @param dimension the Chunk's dimension.
+     * 
+     * @param firstChunk tells if the Chunk is part of the first set of Chunks of the game.
+     * 
+     * @param random the random generator used to generate the content of the Chunk.
+     */
+    public AbstractChunk(final Position initialPosition, final Dimension dimension, final boolean firstChunk,
+                         final RandomGenerator random) {
+        this(initialPosition, dimension, random);
+        this.isFirstChunk = firstChunk;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -83,6 +131,43 @@ public abstract class AbstractChunk extends AbstractPositionable implements Chun
         return List.copyOf(this.obstacles);
     }
 
+    /**
+     * Returns the number of Obstacles on the Chunk, without copying them into a list.
+     *
+     * @return the number of Obstacles.
+     */
+    protected int getObstacleCount() {
+        return this.obstacles.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachObstacleInRow(final int y, final double fromX, final double toX,
+                                     final Consumer<? super Obstacle> action) {
+        final int row = y - (int) Math.floor(this.getPosition().y());
+        if (row >= 0 && row < this.lanes.length) {
+            this.lanes[row].forEachInRange(fromX, toX, action);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachObstacle(final Consumer<? super Obstacle> action) {
+        this.obstacles.forEach(action);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachPickable(final Consumer<? super Pickable> action) {
+        this.pickables.forEach(action);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -106,34 +191,55 @@ public abstract class AbstractChunk extends AbstractPositionable implements Chun
      * {@inheritDoc}
      */
     @Override
-    public List<PowerUp> getActivePowerUp() {
-        return List.copyOf(this.pickables.stream()
-                                         .filter(p -> p instanceof PowerUp)
-                                         .map(p -> (PowerUp) p)
-                                         .filter(p -> !p.isDone() && p.isPickedUp())
-                                         .toList());
+    public void removePickable(final Pickable pick) {
+        Objects.requireNonNull(pick, "Pickable cannot be null");
+        if (this.pickables.remove(pick)) {
+            this.setOccupied(pick.getPosition(), false);
+        }
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void removePickable(final Pickable pick) {
-        Objects.requireNonNull(pick, "Pickable cannot be null");
-        this.pickables.remove(pick);
+    public void update(final GameParameters params, final long deltaTime) {
+        Objects.requireNonNull(params, "Game parameters cannot be null");
+        //Nothing on a still Chunk changes: picked up power ups leave the Chunk and are timed by the game manager
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void update(final GameParameters params, final long deltaTime) {
+    public void useTimers(final TimingWheel wheel) {
+        Objects.requireNonNull(wheel, "Timers cannot be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void rescheduleTimers(final GameParameters params) {
         Objects.requireNonNull(params, "Game parameters cannot be null");
-        this.pickables.removeIf(p -> p instanceof AbstractPowerUp powerUp && powerUp.isDone());
-        this.pickables.stream()
-                      .filter(p -> p instanceof AbstractPowerUp powerUp && powerUp.isPickedUp())
-                      .map(p -> (AbstractPowerUp) p)
-                      .forEach(p -> p.update(deltaTime, params));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void cancelTimers() {
+        //A Chunk without active obstacles has no timers
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getQuietTime(final Positionable box, final GameParameters params, final long limit) {
+        Objects.requireNonNull(box, "Box cannot be null");
+        Objects.requireNonNull(params, "Game parameters cannot be null");
+        //Obstacles and Pickables stand still
+        return limit;
     }
 
     /**
@@ -151,6 +257,10 @@ public abstract class AbstractChunk extends AbstractPositionable implements Chun
     protected void addObstacle(final Obstacle obs) {
         Objects.requireNonNull(obs, "Obstacle cannot be null");
         this.obstacles.add(obs);
+        this.forEachLane(obs, l -> l.add(obs));
+        if (!(obs instanceof ActiveObstacle)) {
+            this.setOccupied(obs.getPosition(), true);
+        }
     }
 
     /**
@@ -162,7 +272,21 @@ public abstract class AbstractChunk extends AbstractPositionable implements Chun
      */
     protected void removeObstacle(final Obstacle obs) {
         Objects.requireNonNull(obs, "Obstacle cannot be null");
-        this.obstacles.remove(obs);
+        if (this.obstacles.remove(obs)) {
+            this.forEachLane(obs, l -> l.remove(obs));
+            if (!(obs instanceof ActiveObstacle)) {
+                this.setOccupied(obs.getPosition(), false);
+            }
+        }
+    }
+
+    /**
+     * Tells the lanes that the Obstacles moved, so that each one restores its order before it's used again.
+     */
+    protected void markLanesMoved() {
+        for (final Lane lane : this.lanes) {
+            lane.markMoved();
+        }
     }
 
     /**
@@ -174,24 +298,44 @@ public abstract class AbstractChunk extends AbstractPositionable implements Chun
         return this.isFirstChunk;
     }
 
+    /**
+     * Gets the random generator of the Chunk, which is the only source of randomness of its content.
+     * 
+     * @return the random generator.
+     */
+    protected RandomGenerator getRandom() {
+        return this.random;
+    }
+
+    /**
+     * Tells if a cell of the Chunk is free from passive Obstacles and Pickables.
+     * 
+     * @param position the position of the cell.
+     * 
+     * @return true if nothing that stays still occupies the cell.
+     */
+    protected boolean isCellFree(final Position position) {
+        final int index = this.cellIndex(position);
+        return index < 0 || !this.occupiedCells.get(index);
+    }
+
     /**
      * Generates random Pickables objects on the Chunk, each one with a different probability.
      */
     private void generatePickables() {
-        for (int i = 0; i < RND.nextInt(1, MAX_OBSTACLES); i++) {
-            final int relativeX = RND.nextInt((int) this.getDimension().width());
-            final int relativeY = RND.nextInt((int) this.getDimension().height());
+        for (int i = 0; i < this.random.nextInt(1, MAX_OBSTACLES); i++) {
+            final int relativeX = this.random.nextInt((int) this.getDimension().width());
+            final int relativeY = this.random.nextInt((int) this.getDimension().height());
             final Position randomPosition = new Position(this.getPosition().x() + relativeX, this.getPosition().y() + relativeY);
-            if (this.getPositionables().stream().noneMatch(p -> p.getPosition().equals(randomPosition))
-                && !(this.isFirstChunk && randomPosition.equals(PLAYER_START_POSITION))) {
-                final double number = RND.nextDouble();
+            if (this.isCellFree(randomPosition) && !(this.isFirstChunk && randomPosition.equals(PLAYER_START_POSITION))) {
+                final double number = this.random.nextDouble();
                 if (number <= FIRST_PROBABILITY) {
                     this.addPickable(new Coin(randomPosition));
-                } else if (this.getActivePowerUp().isEmpty() && number <= SECOND_PROBABILITY) {
+                } else if (number <= SECOND_PROBABILITY) {
                     this.addPickable(new Invincibility(randomPosition));
-                } else if (this.getActivePowerUp().isEmpty() && number <= THIRD_PROBABILITY) {
+                } else if (number <= THIRD_PROBABILITY) {
                     this.addPickable(new SlowCars(randomPosition));
-                } else if (this.getActivePowerUp().isEmpty() && number > THIRD_PROBABILITY) {
+                } else {
                     this.addPickable(new CoinMultiplier(randomPosition));
                 }
             }
@@ -208,5 +352,57 @@ public abstract class AbstractChunk extends AbstractPositionable implements Chun
     private void addPickable(final Pickable pick) {
         Objects.requireNonNull(pick, "Pickable cannot be null");
         this.pickables.add(pick);
+        this.setOccupied(pick.getPosition(), true);
+    }
+
+    /**
+     * Applies an action to the lanes of the rows covered by an Obstacle.
+     * 
+     * @param obs the Obstacle.
+     * 
+     * @param action the action to apply to each lane.
+     */
+    private void forEachLane(final Obstacle obs, final Consumer<Lane> action) {
+        final int chunkY = (int) Math.floor(this.getPosition().y());
+        final int first = Math.max(0, (int) Math.floor(obs.getPosition().y()) - chunkY);
+        final int last = Math.min(
+            this.lanes.length - 1,
+            (int) Math.ceil(obs.getPosition().y() + obs.getDimension().height()) - 1 - chunkY
+        );
+        for (int row = first; row <= last; row++) {
+            action.accept(this.lanes[row]);
+        }
+    }
+
+    /**
+     * Marks or clears a cell of the Chunk.
+     * 
+     * @param position the position of the cell, ignored if it's not a cell of the Chunk.
+     * 
+     * @param occupied whether the cell is occupied.
+     */
+    private void setOccupied(final Position position, final boolean occupied) {
+        final int index = this.cellIndex(position);
+        if (index >= 0) {
+            this.occupiedCells.set(index, occupied);
+        }
+    }
+
+    /**
+     * Computes the index of a cell, relative to the Chunk's position.
+     * 
+     * @param position the position of the cell.
+     * 
+     * @return the index of the cell, or -1 if the position isn't exactly a cell inside the Chunk.
+     */
+    private int cellIndex(final Position position) {
+        final double relativeX = position.x() - this.getPosition().x();
+        final double relativeY = position.y() - this.getPosition().y();
+        if (relativeX != Math.rint(relativeX) || relativeY != Math.rint(relativeY)
+            || relativeX < 0 || relativeX >= this.getDimension().width()
+            || relativeY < 0 || relativeY >= this.getDimension().height()) {
+            return -1;
+        }
+        return (int) (relativeY * this.getDimension().width() + relativeX);
     }
 }
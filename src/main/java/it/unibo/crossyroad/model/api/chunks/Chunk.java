@@ -4,9 +4,10 @@ import it.unibo.crossyroad.model.api.GameParameters;
 import it.unibo.crossyroad.model.api.obstacles.Obstacle;
 import it.unibo.crossyroad.model.api.pickables.Pickable;
 import it.unibo.crossyroad.model.api.Positionable;
-import it.unibo.crossyroad.model.api.pickables.PowerUp;
+import it.unibo.crossyroad.model.api.TimingWheel;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Represents a portion of the map, each one with different obstacles on it.
@@ -27,6 +28,41 @@ public interface Chunk extends Positionable {
      */
     List<Obstacle> getObstacles();
 
+    /**
+     * Performs an action on each Obstacle on a row of the Chunk that meets a horizontal segment, found through
+     * the index of the row, without copying them into a list. Nothing is done if the row is outside the Chunk.
+     * 
+     * @param y the y coordinate of the row.
+     * 
+     * @param fromX the left end of the segment, included.
+     * 
+     * @param toX the right end of the segment, included.
+     * 
+     * @param action the action to perform, in order of x.
+     * 
+     * @see Obstacle
+     */
+    void forEachObstacleInRow(int y, double fromX, double toX, Consumer<? super Obstacle> action);
+
+    /**
+     * Performs an action on each Obstacle present on the Chunk, without copying them into a list.
+     * 
+     * @param action the action to perform.
+     * 
+     * @see Obstacle
+     */
+    void forEachObstacle(Consumer<? super Obstacle> action);
+
+    /**
+     * Performs an action on each Pickable present on the Chunk, including the ones already picked up,
+     * without copying them into a list.
+     * 
+     * @param action the action to perform.
+     * 
+     * @see Pickable
+     */
+    void forEachPickable(Consumer<? super Pickable> action);
+
     /**
      * Returns the Pickables present on the Chunk.
      * 
@@ -45,15 +81,6 @@ public interface Chunk extends Positionable {
      */
     List<Positionable> getPositionables();
 
-    /**
-     * Returns the active PowerUps present on the Chunk.
-     * 
-     * @return a list of the active PowerUps present on the Chunk.
-     * 
-     * @see PowerUp
-     */
-    List<PowerUp> getActivePowerUp();
-
     /**
      * Removes a pickable from the internal list.
      * 
@@ -73,4 +100,45 @@ public interface Chunk extends Positionable {
      * @see GameParameters
      */
     void update(GameParameters params, long deltaTime);
+
+    /**
+     * Moves the timers of the Chunk, such as the one of its next spawn, to a shared TimingWheel.
+     * From then on the timers fire when whoever drives the game advances the wheel, rather than during update.
+     * 
+     * @param wheel the shared TimingWheel.
+     * 
+     * @see TimingWheel
+     */
+    void useTimers(TimingWheel wheel);
+
+    /**
+     * Reschedules the timers of the Chunk that depend on the GameParameters, after these changed.
+     * 
+     * @param params the GameParameters.
+     * 
+     * @see GameParameters
+     */
+    void rescheduleTimers(GameParameters params);
+
+    /**
+     * Cancels the timers of the Chunk, when it leaves the map.
+     */
+    void cancelTimers();
+
+    /**
+     * Computes how long the Chunk can be updated with nothing happening on it but the obstacles moving:
+     * no obstacle spawns, leaves the Chunk or meets a box, as long as the GameParameters stay the same.
+     * Such a stretch gives the same Chunk whether it's simulated with one update or with many.
+     * 
+     * @param box the box the obstacles must not meet, usually the player.
+     * 
+     * @param params the GameParameters.
+     * 
+     * @param limit the longest time of interest, in milliseconds.
+     * 
+     * @return the time, in milliseconds, from 0 to the limit.
+     * 
+     * @see GameParameters
+     */
+    long getQuietTime(Positionable box, GameParameters params, long limit);
 }
@@ -2,6 +2,8 @@ package it.unibo.crossyroad.model.api.managers;
 
 import it.unibo.crossyroad.model.api.Direction;
 import it.unibo.crossyroad.model.api.EntityType;
+import it.unibo.crossyroad.model.api.Frame;
+import it.unibo.crossyroad.model.api.GameEventRing;
 import it.unibo.crossyroad.model.api.Positionable;
 
 import java.util.List;
@@ -21,6 +23,34 @@ public interface GameManager {
      */
     List<Positionable> getPositionables();
 
+    /**
+     * Writes the state of the game into a frame, which is cleared first: the Positionable elements with their
+     * positions at the last update and at the one before, the scroll offset, the active power ups, the coin count,
+     * the score and the version of the elements that never move. Nothing is allocated for the elements,
+     * so it can be called at every update.
+     * 
+     * @param frame the frame to write.
+     * @see Frame
+     */
+    void writeFrame(Frame frame);
+
+    /**
+     * Returns the ring the game publishes its events to, such as a coin picked up or the end of the game.
+     * The events are published by the thread that drives the game, subscribers read them from any thread.
+     * 
+     * @return the events of the game.
+     * @see GameEventRing
+     */
+    GameEventRing getEvents();
+
+    /**
+     * Returns how far the map has scrolled: the Positionables keep their world coordinates,
+     * and adding this offset to their y coordinate gives their position on the screen.
+     * 
+     * @return the vertical offset between the world and the screen.
+     */
+    double getScrollOffset();
+
     /**
      * Returns a map of the active power ups in game along with their remaining lifetime.
      * 
@@ -36,6 +66,16 @@ public interface GameManager {
      */
     void update(long deltaTime);
 
+    /**
+     * Computes how long the game can go on without moves of the player before anything happens in it but
+     * the obstacles moving: no obstacle spawns, leaves its Chunk or reaches the player, and no PowerUp runs out.
+     * Updating the game by that time at once gives the same game as updating it in smaller steps.
+     * 
+     * @param limit the longest time of interest, in milliseconds.
+     * @return the time, in milliseconds, from 0 to the limit.
+     */
+    long getQuietTime(long limit);
+
     /**
      * Updates the player position.
      * 
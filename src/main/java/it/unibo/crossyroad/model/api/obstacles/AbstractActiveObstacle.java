@@ -8,12 +8,23 @@ import it.unibo.crossyroad.model.api.Position;
 
 import java.util.Objects;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
 /**
  * An abstract class representing an active obstacle that has a position in a 2D space.
+ * Its horizontal motion is a {@link Trajectory}, so the position at any age is known in closed form.
+ * When added to an {@link ActiveObstacleStore} the obstacle becomes a read-only view of its entry:
+ * its position is the one held by the store, and only the store moves it.
  */
 public abstract class AbstractActiveObstacle extends AbstractPositionable implements ActiveObstacle {
     private final Direction direction;
     private final double speed;
+    private Trajectory trajectory;
+    private long elapsed;
+    private ActiveObstacleStore store;
+    private int slot;
+    private long cachedVersion;
+    private Position cachedPosition;
 
     /**
      * It creates a new active obstacle with the given initial position, dimension, speed and direction.
@@ -34,19 +45,166 @@ public abstract class AbstractActiveObstacle extends AbstractPositionable implem
         }
         this.speed = speed;
         this.direction = direction;
+        this.trajectory = new Trajectory(0, position.x());
     }
 
     /**
      * {@inheritDoc}
+     *
+     * @throws IllegalStateException if the obstacle belongs to a store.
      */
     @Override
     public void update(final long deltaTime, final GameParameters parameters) {
+        this.checkNotBound();
         final double speedMultiplier = getSpeedMultiplier(parameters);
         if (speedMultiplier <= 0) {
             throw new IllegalArgumentException("Speed multiplier must be positive");
         }
-        final double deltaX = this.speed * speedMultiplier * deltaTime / 1000.0 * (this.direction == Direction.LEFT ? -1 : 1);
-        super.setPosition(new Position(super.getPosition().x() + deltaX, super.getPosition().y()));
+        final double velocity = this.speed * speedMultiplier * (this.direction == Direction.LEFT ? -1 : 1);
+        this.trajectory.extend(deltaTime, velocity);
+        this.elapsed += deltaTime;
+        super.setPosition(new Position(this.trajectory.valueAt(this.elapsed), super.getPosition().y()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getAge() {
+        return this.store == null ? this.elapsed : this.store.getTime() - this.store.getSpawnTime(this.slot);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Position positionAt(final long age) {
+        if (this.store == null) {
+            return new Position(this.trajectory.valueAt(age), super.getPosition().y());
+        }
+        return new Position(
+            this.store.getXAt(this.slot, this.store.getSpawnTime(this.slot) + age),
+            this.store.getY(this.slot)
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Position getPosition() {
+        if (this.store == null) {
+            return super.getPosition();
+        }
+        if (this.cachedPosition == null || this.cachedVersion != this.store.getVersion()) {
+            this.cachedPosition = new Position(this.store.getX(this.slot), this.store.getY(this.slot));
+            this.cachedVersion = this.store.getVersion();
+        }
+        return this.cachedPosition;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException if the obstacle belongs to a store.
+     */
+    @Override
+    public void increaseY(final double delta) {
+        this.checkNotBound();
+        super.increaseY(delta);
+    }
+
+    /**
+     * Returns the static speed of the obstacle.
+     *
+     * @return the speed.
+     */
+    double getSpeed() {
+        return this.speed;
+    }
+
+    /**
+     * Returns the direction of the movement of the obstacle.
+     *
+     * @return the direction.
+     */
+    Direction getDirection() {
+        return this.direction;
+    }
+
+    /**
+     * Makes the obstacle a view of an entry of a store.
+     *
+     * @param owner the store holding the obstacle.
+     * @param index the slot of the obstacle in the store.
+     */
+    @SuppressFBWarnings(
+        value = "EI2",
+        justification = "The store is shared on purpose: the obstacle reads its position from it."
+    )
+    void bind(final ActiveObstacleStore owner, final int index) {
+        this.store = owner;
+        this.slot = index;
+        this.cachedPosition = null;
+    }
+
+    /**
+     * Detaches the obstacle from its store, keeping its last position.
+     */
+    void unbind() {
+        final Position last = this.getPosition();
+        this.elapsed = this.getAge();
+        this.trajectory = new Trajectory(this.elapsed, last.x());
+        this.store = null;
+        this.cachedPosition = null;
+        super.setPosition(last);
+    }
+
+    /**
+     * Updates the slot of the obstacle after the store moved it.
+     *
+     * @param index the new slot.
+     */
+    void setSlot(final int index) {
+        this.slot = index;
+    }
+
+    /**
+     * Returns the slot of the obstacle in its store.
+     *
+     * @return the slot.
+     */
+    int getSlot() {
+        return this.slot;
+    }
+
+    /**
+     * Tells whether the obstacle belongs to a store.
+     *
+     * @return true if the obstacle is a view of a store entry.
+     */
+    boolean isBound() {
+        return this.store != null;
+    }
+
+    /**
+     * Tells whether the obstacle belongs to the given store.
+     *
+     * @param owner the store.
+     * @return true if the obstacle is a view of an entry of the store.
+     */
+    boolean isBoundTo(final ActiveObstacleStore owner) {
+        return this.store == owner;
+    }
+
+    /**
+     * Checks that the obstacle can be moved directly. The lanes of a store are indexed by y,
+     * and the x of its obstacles follows their trajectories, so a stored obstacle is moved by the store only.
+     */
+    private void checkNotBound() {
+        if (this.store != null) {
+            throw new IllegalStateException("A stored obstacle can only be moved by its store");
+        }
     }
 
     /**
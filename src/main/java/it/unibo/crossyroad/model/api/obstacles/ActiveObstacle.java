@@ -1,6 +1,7 @@
 package it.unibo.crossyroad.model.api.obstacles;
 
 import it.unibo.crossyroad.model.api.GameParameters;
+import it.unibo.crossyroad.model.api.Position;
 
 /**
  * An active obstacle that can move.
@@ -13,4 +14,21 @@ public interface ActiveObstacle extends Obstacle {
      * @param parameters the speed of the obstacle.
      */
     void update(long deltaTime, GameParameters parameters);
+
+    /**
+     * Returns the time passed since the active obstacle spawned.
+     *
+     * @return the age of the active obstacle, in milliseconds.
+     */
+    long getAge();
+
+    /**
+     * Computes the position of the active obstacle at a given age, without changing it.
+     * Ages after the current one assume that the obstacle keeps the speed of its last update, so they can be used
+     * to predict where the obstacle is going to be.
+     *
+     * @param age the time since the active obstacle spawned, in milliseconds.
+     * @return the position at that age.
+     */
+    Position positionAt(long age);
 }
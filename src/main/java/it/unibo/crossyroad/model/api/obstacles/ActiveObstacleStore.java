@@ -0,0 +1,388 @@
+package it.unibo.crossyroad.model.api.obstacles;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import it.unibo.crossyroad.model.api.Direction;
+import it.unibo.crossyroad.model.api.GameParameters;
+import it.unibo.crossyroad.model.api.Geometry;
+import it.unibo.crossyroad.model.api.Positionable;
+
+/**
+ * Structure-of-arrays storage for the moving obstacles of a Chunk. Positions and sizes are kept
+ * in primitive arrays, while the obstacle objects act as views that read their position from the store
+ * when asked for it.
+ *
+ * <p>Obstacles of the same type moving with the same speed and direction share a conveyor: their x coordinate
+ * is stored as an offset from the origin of the conveyor, whose motion is a {@link Trajectory} over the clock
+ * of the store. An update only moves the clock forward and opens a new segment on the conveyors whose speed
+ * multiplier changed, and the position of an obstacle at any time is computed from its conveyor.
+ * A Road has one conveyor per lane, Railway and River a single one.
+ */
+public final class ActiveObstacleStore {
+    private static final int INITIAL_CAPACITY = 8;
+    private static final int INITIAL_CONVEYORS = 2;
+    private static final double MILLIS_PER_SECOND = 1000.0;
+
+    private double[] offset = new double[INITIAL_CAPACITY];
+    private long[] spawnTime = new long[INITIAL_CAPACITY];
+    private double[] y = new double[INITIAL_CAPACITY];
+    private double[] width = new double[INITIAL_CAPACITY];
+    private int[] conveyor = new int[INITIAL_CAPACITY];
+    private AbstractActiveObstacle[] views = new AbstractActiveObstacle[INITIAL_CAPACITY];
+    private int size;
+
+    private Trajectory[] origin = new Trajectory[INITIAL_CONVEYORS];
+    private double[] velocity = new double[INITIAL_CONVEYORS];
+    private int[] members = new int[INITIAL_CONVEYORS];
+    private AbstractActiveObstacle[] representative = new AbstractActiveObstacle[INITIAL_CONVEYORS];
+    private int conveyors;
+
+    private long now;
+    private long version;
+
+    /**
+     * Adds an obstacle to the store, which from now on holds its position.
+     *
+     * @param obstacle the obstacle to add.
+     * @throws IllegalArgumentException if the obstacle already belongs to a store.
+     */
+    public void add(final AbstractActiveObstacle obstacle) {
+        Objects.requireNonNull(obstacle, "Obstacle cannot be null");
+        if (obstacle.isBound()) {
+            throw new IllegalArgumentException("The obstacle already belongs to a store");
+        }
+        if (this.size == this.views.length) {
+            this.grow();
+        }
+        final int belt = this.conveyorFor(obstacle);
+        this.offset[this.size] = obstacle.getPosition().x() - this.origin[belt].valueAt(this.now);
+        this.spawnTime[this.size] = this.now - obstacle.getAge();
+        this.y[this.size] = obstacle.getPosition().y();
+        this.width[this.size] = obstacle.getDimension().width();
+        this.conveyor[this.size] = belt;
+        this.views[this.size] = obstacle;
+        this.members[belt]++;
+        obstacle.bind(this, this.size);
+        this.size++;
+    }
+
+    /**
+     * Removes an obstacle from the store, leaving it at its last position.
+     *
+     * @param obstacle the obstacle to remove.
+     * @return true if the obstacle was in the store.
+     */
+    public boolean remove(final ActiveObstacle obstacle) {
+        Objects.requireNonNull(obstacle, "Obstacle cannot be null");
+        if (obstacle instanceof AbstractActiveObstacle active && active.isBoundTo(this)) {
+            final int slot = active.getSlot();
+            active.unbind();
+            this.leaveConveyor(slot);
+            this.move(this.size - 1, slot);
+            this.size--;
+            this.views[this.size] = null;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Moves every obstacle according to its speed, its direction and the speed multiplier of its type.
+     * Only the trajectories of the conveyors in use are extended.
+     *
+     * @param deltaTime time since the last update.
+     * @param parameters the game parameters.
+     * @throws IllegalArgumentException if a speed multiplier is not positive.
+     */
+    public void advance(final long deltaTime, final GameParameters parameters) {
+        Objects.requireNonNull(parameters, "Game parameters cannot be null");
+        for (int c = 0; c < this.conveyors; c++) {
+            if (this.members[c] > 0) {
+                final double multiplier = this.representative[c].getSpeedMultiplier(parameters);
+                if (multiplier <= 0) {
+                    throw new IllegalArgumentException("Speed multiplier must be positive");
+                }
+                this.origin[c].extend(deltaTime, this.velocity[c] * multiplier);
+            }
+        }
+        this.now += deltaTime;
+        this.version++;
+    }
+
+    /**
+     * Removes, compacting the arrays, every obstacle that moved too far from a horizontal segment.
+     * An obstacle is kept while its x coordinate is within its width plus the margin from the segment.
+     *
+     * @param left the left end of the segment.
+     * @param right the right end of the segment.
+     * @param margin the margin added to the width of each obstacle.
+     * @return the removed obstacles.
+     */
+    public List<ActiveObstacle> removeOutside(final double left, final double right, final double margin) {
+        List<ActiveObstacle> removed = List.of();
+        int kept = 0;
+        for (int i = 0; i < this.size; i++) {
+            final double tolerance = this.width[i] + margin;
+            final double x = this.getX(i);
+            if (x >= left - tolerance && x <= right + tolerance) {
+                this.move(i, kept);
+                kept++;
+            } else {
+                if (removed.isEmpty()) {
+                    removed = new ArrayList<>();
+                }
+                this.views[i].unbind();
+                this.leaveConveyor(i);
+                removed.add(this.views[i]);
+            }
+        }
+        Arrays.fill(this.views, kept, this.size, null);
+        this.size = kept;
+        return removed;
+    }
+
+    /**
+     * Computes how long the obstacles can move before any of them is removed by {@link #removeOutside}.
+     * The time is exact, since the positions are the ones of the trajectories, but it only holds while
+     * the speeds stay the same.
+     *
+     * @param left the left end of the segment.
+     * @param right the right end of the segment.
+     * @param margin the margin added to the width of each obstacle.
+     * @param parameters the game parameters, which give the speeds of the next updates.
+     * @param limit the longest time of interest, in milliseconds.
+     * @return the time, in milliseconds, from 0 to the limit.
+     */
+    public long getTimeInside(final double left, final double right, final double margin,
+                              final GameParameters parameters, final long limit) {
+        long time = this.isSteady(parameters) ? limit : 0;
+        for (int i = 0; i < this.size && time > 0; i++) {
+            final double tolerance = this.width[i] + margin;
+            time = this.getTimeWithin(i, left - tolerance, right + tolerance, time);
+        }
+        return time;
+    }
+
+    /**
+     * Computes how long the obstacles can move before any of them overlaps a box, such as the player.
+     * Like {@link #getTimeInside}, the time only holds while the speeds stay the same.
+     *
+     * @param box the box, which doesn't move in the meantime.
+     * @param parameters the game parameters, which give the speeds of the next updates.
+     * @param limit the longest time of interest, in milliseconds.
+     * @return the time, in milliseconds, from 0 to the limit.
+     */
+    public long getTimeApart(final Positionable box, final GameParameters parameters, final long limit) {
+        Objects.requireNonNull(box, "Box cannot be null");
+        final double boxX = box.getPosition().x();
+        final double boxWidth = box.getDimension().width();
+        long time = this.isSteady(parameters) ? limit : 0;
+        for (int i = 0; i < this.size && time > 0; i++) {
+            if (Geometry.intervalsOverlap(this.y[i], this.views[i].getDimension().height(),
+                    box.getPosition().y(), box.getDimension().height())) {
+                //The obstacle must stay on the side of the box it's on now
+                time = this.getX(i) <= boxX - this.width[i]
+                    ? this.getTimeWithin(i, Double.NEGATIVE_INFINITY, boxX - this.width[i], time)
+                    : this.getTimeWithin(i, boxX + boxWidth, Double.POSITIVE_INFINITY, time);
+            }
+        }
+        return time;
+    }
+
+    /**
+     * Returns the number of obstacles in the store.
+     *
+     * @return the number of obstacles.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the clock of the store, which is the total time it has been advanced by.
+     *
+     * @return the time, in milliseconds.
+     */
+    public long getTime() {
+        return this.now;
+    }
+
+    /**
+     * Returns the x coordinate of an obstacle.
+     *
+     * @param slot the slot of the obstacle.
+     * @return the x coordinate.
+     */
+    double getX(final int slot) {
+        return this.getXAt(slot, this.now);
+    }
+
+    /**
+     * Computes the x coordinate of an obstacle at a time of the clock of the store.
+     * Times after the present assume that the speed multipliers stay the same.
+     *
+     * @param slot the slot of the obstacle.
+     * @param time the time, in milliseconds.
+     * @return the x coordinate at that time.
+     */
+    double getXAt(final int slot, final long time) {
+        return this.origin[this.conveyor[slot]].valueAt(time) + this.offset[slot];
+    }
+
+    /**
+     * Returns the time of the clock of the store at which an obstacle spawned.
+     *
+     * @param slot the slot of the obstacle.
+     * @return the spawn time, in milliseconds.
+     */
+    long getSpawnTime(final int slot) {
+        return this.spawnTime[slot];
+    }
+
+    /**
+     * Returns the y coordinate of an obstacle.
+     *
+     * @param slot the slot of the obstacle.
+     * @return the y coordinate.
+     */
+    double getY(final int slot) {
+        return this.y[slot];
+    }
+
+    /**
+     * Returns a counter that changes every time the obstacles move, so that views know when to refresh their position.
+     *
+     * @return the version of the positions.
+     */
+    long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Finds the conveyor carrying the obstacles moving like the given one, reusing an empty conveyor
+     * or creating a new one if there's none.
+     *
+     * @param obstacle the obstacle.
+     * @return the index of the conveyor.
+     */
+    private int conveyorFor(final AbstractActiveObstacle obstacle) {
+        final double v = obstacle.getSpeed() * (obstacle.getDirection() == Direction.LEFT ? -1 : 1);
+        int free = -1;
+        for (int c = 0; c < this.conveyors; c++) {
+            if (this.members[c] == 0) {
+                free = free < 0 ? c : free;
+            } else if (this.velocity[c] == v && this.representative[c].getClass() == obstacle.getClass()) {
+                return c;
+            }
+        }
+        if (free < 0) {
+            if (this.conveyors == this.origin.length) {
+                this.growConveyors();
+            }
+            free = this.conveyors++;
+        }
+        //An empty conveyor starts again from zero, so that its segments don't pile up
+        this.origin[free] = new Trajectory(this.now, 0);
+        this.velocity[free] = v;
+        this.representative[free] = obstacle;
+        return free;
+    }
+
+    /**
+     * Takes an obstacle off its conveyor, electing another member as the representative if needed.
+     *
+     * @param slot the slot of the obstacle.
+     */
+    private void leaveConveyor(final int slot) {
+        final int belt = this.conveyor[slot];
+        this.members[belt]--;
+        if (this.members[belt] == 0) {
+            this.representative[belt] = null;
+        } else if (this.representative[belt] == this.views[slot]) {
+            for (int i = 0; i < this.size; i++) {
+                if (i != slot && this.conveyor[i] == belt && this.views[i].isBoundTo(this)) {
+                    this.representative[belt] = this.views[i];
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Tells whether the next updates go on with the speeds of the last one, so that the trajectories
+     * already give the positions to come.
+     *
+     * @param parameters the game parameters.
+     * @return true if no conveyor in use changes speed at the next update.
+     */
+    private boolean isSteady(final GameParameters parameters) {
+        Objects.requireNonNull(parameters, "Game parameters cannot be null");
+        for (int c = 0; c < this.conveyors; c++) {
+            if (this.members[c] > 0) {
+                final double next = this.velocity[c] * this.representative[c].getSpeedMultiplier(parameters);
+                if (Double.compare(this.origin[c].getSpeed(), next) != 0) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Computes how long an obstacle stays between two bounds, both included.
+     * The motion is linear, so the obstacle is between them all along if it is at both ends of the time.
+     *
+     * @param slot the slot of the obstacle.
+     * @param min the lower bound.
+     * @param max the upper bound.
+     * @param limit the longest time of interest, in milliseconds.
+     * @return the time, in milliseconds, from 0 to the limit.
+     */
+    private long getTimeWithin(final int slot, final double min, final double max, final long limit) {
+        final double x = this.getX(slot);
+        if (!Geometry.isBetween(x, min, max)) {
+            return 0;
+        }
+        final double speed = this.origin[this.conveyor[slot]].getSpeed();
+        final double distance = speed > 0 ? max - x : min - x;
+        long time = speed == 0 ? limit : (long) Math.min(limit, Math.floor(distance / speed * MILLIS_PER_SECOND));
+        //The estimate may be off by rounding, the positions to check are the ones the updates will compute
+        while (time > 0 && !Geometry.isBetween(this.getXAt(slot, this.now + time), min, max)) {
+            time--;
+        }
+        return time;
+    }
+
+    private void move(final int from, final int to) {
+        if (from != to) {
+            this.offset[to] = this.offset[from];
+            this.spawnTime[to] = this.spawnTime[from];
+            this.y[to] = this.y[from];
+            this.width[to] = this.width[from];
+            this.conveyor[to] = this.conveyor[from];
+            this.views[to] = this.views[from];
+            this.views[to].setSlot(to);
+        }
+    }
+
+    private void grow() {
+        final int capacity = this.views.length * 2;
+        this.offset = Arrays.copyOf(this.offset, capacity);
+        this.spawnTime = Arrays.copyOf(this.spawnTime, capacity);
+        this.y = Arrays.copyOf(this.y, capacity);
+        this.width = Arrays.copyOf(this.width, capacity);
+        this.conveyor = Arrays.copyOf(this.conveyor, capacity);
+        this.views = Arrays.copyOf(this.views, capacity);
+    }
+
+    private void growConveyors() {
+        final int capacity = this.origin.length * 2;
+        this.origin = Arrays.copyOf(this.origin, capacity);
+        this.velocity = Arrays.copyOf(this.velocity, capacity);
+        this.members = Arrays.copyOf(this.members, capacity);
+        this.representative = Arrays.copyOf(this.representative, capacity);
+    }
+}
@@ -0,0 +1,132 @@
+package it.unibo.crossyroad.model.api.obstacles;
+
+import java.util.Arrays;
+
+/**
+ * The horizontal motion of an active obstacle as a function of time, in closed form.
+ * The motion is made of linear segments: a new one starts every time the speed changes,
+ * for example because a speed multiplier was increased. The value at any time is computed
+ * from the segment covering it, so it doesn't depend on how the time was split in updates.
+ * After the last update the motion goes on with the last speed.
+ */
+public final class Trajectory {
+    private static final int INITIAL_SEGMENTS = 4;
+    private static final double MILLIS_PER_SECOND = 1000.0;
+
+    private long[] startTime = new long[INITIAL_SEGMENTS];
+    private double[] startValue = new double[INITIAL_SEGMENTS];
+    private double[] speed = new double[INITIAL_SEGMENTS];
+    private int segments;
+    private long end;
+
+    /**
+     * Creates a still trajectory.
+     *
+     * @param start the time the trajectory starts from, in milliseconds.
+     * @param value the value at the start time.
+     */
+    public Trajectory(final long start, final double value) {
+        this.startTime[0] = start;
+        this.startValue[0] = value;
+        this.segments = 1;
+        this.end = start;
+    }
+
+    /**
+     * Extends the trajectory, moving at the given speed for the given time.
+     *
+     * @param deltaTime the duration of the extension, in milliseconds.
+     * @param unitsPerSecond the speed, negative when the value decreases.
+     * @throws IllegalArgumentException if deltaTime is negative.
+     */
+    public void extend(final long deltaTime, final double unitsPerSecond) {
+        if (deltaTime < 0) {
+            throw new IllegalArgumentException("Delta time cannot be negative");
+        }
+        final int last = this.segments - 1;
+        if (this.speed[last] != unitsPerSecond) {
+            if (this.startTime[last] == this.end) {
+                //The last segment is still empty, so it can take the new speed
+                this.speed[last] = unitsPerSecond;
+            } else {
+                this.addSegment(this.end, this.valueAt(this.end), unitsPerSecond);
+            }
+        }
+        this.end += deltaTime;
+    }
+
+    /**
+     * Computes the value at the given time.
+     *
+     * @param time the time, in milliseconds.
+     * @return the value at that time.
+     */
+    public double valueAt(final long time) {
+        final int s = this.segmentAt(time);
+        return this.startValue[s] + this.speed[s] * (time - this.startTime[s]) / MILLIS_PER_SECOND;
+    }
+
+    /**
+     * Returns the time the trajectory has been extended to.
+     *
+     * @return the end time, in milliseconds.
+     */
+    public long getEnd() {
+        return this.end;
+    }
+
+    /**
+     * Returns the speed of the last segment, the one the trajectory goes on with after its end.
+     *
+     * @return the speed, negative when the value decreases.
+     */
+    public double getSpeed() {
+        return this.speed[this.segments - 1];
+    }
+
+    /**
+     * Returns the number of linear segments of the trajectory.
+     *
+     * @return the number of segments.
+     */
+    public int getSegmentCount() {
+        return this.segments;
+    }
+
+    /**
+     * Finds the last segment starting at or before the given time, or the first one if the time comes before it.
+     *
+     * @param time the time, in milliseconds.
+     * @return the index of the segment.
+     */
+    private int segmentAt(final long time) {
+        //Most queries are about the present, which is in the last segment
+        if (time >= this.startTime[this.segments - 1]) {
+            return this.segments - 1;
+        }
+        int low = 0;
+        int high = this.segments - 1;
+        while (low < high) {
+            final int mid = (low + high + 1) >>> 1;
+            if (this.startTime[mid] <= time) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    private void addSegment(final long time, final double value, final double unitsPerSecond) {
+        if (this.segments == this.startTime.length) {
+            final int capacity = this.segments * 2;
+            this.startTime = Arrays.copyOf(this.startTime, capacity);
+            this.startValue = Arrays.copyOf(this.startValue, capacity);
+            this.speed = Arrays.copyOf(this.speed, capacity);
+        }
+        this.startTime[this.segments] = time;
+        this.startValue[this.segments] = value;
+        this.speed[this.segments] = unitsPerSecond;
+        this.segments++;
+    }
+}
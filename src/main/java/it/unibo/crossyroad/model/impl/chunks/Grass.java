@@ -1,6 +1,7 @@
 package it.unibo.crossyroad.model.impl.chunks;
 
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 import it.unibo.crossyroad.model.api.chunks.AbstractChunk;
 import it.unibo.crossyroad.model.api.Dimension;
@@ -16,7 +17,6 @@ public final class Grass extends AbstractChunk {
     private static final Position PLAYER_START_POSITION = new Position(5, 8);
     private static final int MIN_OBSTACLES_NUMBER = 5;
     private static final int MAX_OBSTACLES_NUMBER = 16;
-    private final Random rnd = new Random();
 
     /**
      * Initializes the Chunk.
@@ -26,8 +26,7 @@ public final class Grass extends AbstractChunk {
      * @param dimension the Chunk's dimension.
      */
     public Grass(final Position initialPosition, final Dimension dimension) {
-        super(initialPosition, dimension);
-        this.init();
+        this(initialPosition, dimension, false);
     }
 
     /**
@@ -40,7 +39,23 @@ public final class Grass extends AbstractChunk {
      * @param firstChunk tells if the Chunk is part of the first set of Chunks of the game.
      */
     public Grass(final Position initialPosition, final Dimension dimension, final boolean firstChunk) {
-        super(initialPosition, dimension, firstChunk);
+        this(initialPosition, dimension, firstChunk, new SplittableRandom());
+    }
+
+    /**
+     * Initializes the Chunk.
+     * 
+     * @param initialPosition the Chunk's initial position.
+     * 
+     * @param dimension the Chunk's dimension.
+     * 
+     * @param firstChunk tells if the Chunk is part of the first set of Chunks of the game.
+     * 
+     * @param random the random generator used to generate the content of the Chunk.
+     */
+    public Grass(final Position initialPosition, final Dimension dimension, final boolean firstChunk,
+                 final RandomGenerator random) {
+        super(initialPosition, dimension, firstChunk, random);
         this.init();
     }
 
@@ -54,14 +69,14 @@ public final class Grass extends AbstractChunk {
      */
     @Override
     protected void generateObstacles() {
-        for (int i = 0; i < this.rnd.nextInt(MIN_OBSTACLES_NUMBER, MAX_OBSTACLES_NUMBER); i++) {
-            final int relativeX = this.rnd.nextInt((int) this.getDimension().width());
-            final int relativeY = this.rnd.nextInt((int) this.getDimension().height());
+        final RandomGenerator rnd = this.getRandom();
+        for (int i = 0; i < rnd.nextInt(MIN_OBSTACLES_NUMBER, MAX_OBSTACLES_NUMBER); i++) {
+            final int relativeX = rnd.nextInt((int) this.getDimension().width());
+            final int relativeY = rnd.nextInt((int) this.getDimension().height());
             final Position randomPosition = new Position(this.getPosition().x() + relativeX, this.getPosition().y() + relativeY);
 
-            if (this.getPositionables().stream().noneMatch(p -> p.getPosition().equals(randomPosition))
-                && !(this.isFirstChunk() && randomPosition.equals(PLAYER_START_POSITION))) {
-                switch (this.rnd.nextInt(2)) {
+            if (this.isCellFree(randomPosition) && !(this.isFirstChunk() && randomPosition.equals(PLAYER_START_POSITION))) {
+                switch (rnd.nextInt(2)) {
                     case 0:
                         this.addObstacle(new Tree(randomPosition, new Dimension(1, 1)));
                         break;
@@ -0,0 +1,133 @@
+package it.unibo.crossyroad.model.impl.chunks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import it.unibo.crossyroad.model.api.obstacles.Obstacle;
+
+/**
+ * The Obstacles occupying a row of the map, sorted by their x coordinate, so that the ones
+ * overlapping a horizontal segment are found with a binary search. After the Obstacles move
+ * the order is restored lazily, only when the lane is used.
+ */
+public final class Lane {
+    private final List<Obstacle> obstacles = new ArrayList<>();
+    private double maxWidth;
+    private boolean moved;
+
+    /**
+     * Adds an Obstacle to the lane, keeping the order.
+     *
+     * @param obs the Obstacle to add.
+     */
+    public void add(final Obstacle obs) {
+        Objects.requireNonNull(obs, "Obstacle cannot be null");
+        this.sortIfMoved();
+        this.obstacles.add(this.firstAfter(obs.getPosition().x()), obs);
+        this.maxWidth = Math.max(this.maxWidth, obs.getDimension().width());
+    }
+
+    /**
+     * Removes an Obstacle from the lane.
+     *
+     * @param obs the Obstacle to remove.
+     * @return true if the Obstacle was in the lane.
+     */
+    public boolean remove(final Obstacle obs) {
+        Objects.requireNonNull(obs, "Obstacle cannot be null");
+        for (int i = 0; i < this.obstacles.size(); i++) {
+            if (this.obstacles.get(i) == obs) {
+                this.obstacles.remove(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tells the lane that its Obstacles moved, so that the order is checked before the next use.
+     */
+    public void markMoved() {
+        this.moved = true;
+    }
+
+    /**
+     * Restores the order after the Obstacles moved. The Obstacles of a lane move together,
+     * so the list is almost always still sorted and this costs a single scan.
+     */
+    public void sort() {
+        this.moved = false;
+        for (int i = 1; i < this.obstacles.size(); i++) {
+            final Obstacle current = this.obstacles.get(i);
+            int j = i - 1;
+            while (j >= 0 && this.obstacles.get(j).getPosition().x() > current.getPosition().x()) {
+                this.obstacles.set(j + 1, this.obstacles.get(j));
+                j--;
+            }
+            this.obstacles.set(j + 1, current);
+        }
+    }
+
+    /**
+     * Performs an action on each Obstacle whose horizontal extent, from x included to x + width excluded,
+     * meets the segment between fromX and toX, both included, in order of x and without copying them into a list.
+     *
+     * @param fromX the left end of the segment.
+     * @param toX the right end of the segment.
+     * @param action the action to perform.
+     */
+    public void forEachInRange(final double fromX, final double toX, final Consumer<? super Obstacle> action) {
+        Objects.requireNonNull(action, "Action cannot be null");
+        this.sortIfMoved();
+        //No Obstacle starting before fromX - maxWidth can reach fromX
+        for (int i = this.firstAfter(fromX - this.maxWidth); i < this.obstacles.size(); i++) {
+            final Obstacle obs = this.obstacles.get(i);
+            if (obs.getPosition().x() > toX) {
+                break;
+            }
+            if (obs.getPosition().x() + obs.getDimension().width() > fromX) {
+                action.accept(obs);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of Obstacles in the lane.
+     *
+     * @return the number of Obstacles.
+     */
+    public int size() {
+        return this.obstacles.size();
+    }
+
+    /**
+     * Sorts the lane if its Obstacles moved since the last sort.
+     */
+    private void sortIfMoved() {
+        if (this.moved) {
+            this.sort();
+        }
+    }
+
+    /**
+     * Finds the index of the first Obstacle whose x coordinate is greater than the given one.
+     *
+     * @param x the x coordinate.
+     * @return the index of the first Obstacle after x, or the size of the lane if there's none.
+     */
+    private int firstAfter(final double x) {
+        int low = 0;
+        int high = this.obstacles.size();
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (this.obstacles.get(mid).getPosition().x() > x) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+}
@@ -1,6 +1,7 @@
 package it.unibo.crossyroad.model.impl.chunks;
 
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 import it.unibo.crossyroad.model.api.chunks.AbstractActiveChunk;
 import it.unibo.crossyroad.model.api.GameParameters;
@@ -14,13 +15,11 @@ import it.unibo.crossyroad.model.impl.obstacles.Train;
  * Chunk representing a railway where trains can move.
  */
 public final class Railway extends AbstractActiveChunk {
-    private static final Random RND = new Random();
     private static final int MAX_TRAINS = 3;
     private static final long SPAWN_INTERVAL_MS = 1400;
 
     private final Direction direction;
     private final double speed;
-    private long elapsedTime;
 
     /**
      * Initializes the Chunk.
@@ -30,9 +29,22 @@ public final class Railway extends AbstractActiveChunk {
      * @param dimension the ActiveChunk's dimension.
      */
     public Railway(final Position initialPosition, final Dimension dimension) {
-        super(initialPosition, dimension);
-        this.direction = RND.nextBoolean() ? Direction.LEFT : Direction.RIGHT;
-        this.speed = RND.nextDouble(8, 10);
+        this(initialPosition, dimension, new SplittableRandom());
+    }
+
+    /**
+     * Initializes the Chunk.
+     *
+     * @param initialPosition the ActiveChunk's initial position.
+     *
+     * @param dimension the ActiveChunk's dimension.
+     *
+     * @param random the random generator used to generate the content of the Chunk.
+     */
+    public Railway(final Position initialPosition, final Dimension dimension, final RandomGenerator random) {
+        super(initialPosition, dimension, random);
+        this.direction = random.nextBoolean() ? Direction.LEFT : Direction.RIGHT;
+        this.speed = random.nextDouble(8, 10);
         this.init();
     }
 
@@ -40,20 +52,24 @@ public final class Railway extends AbstractActiveChunk {
      * {@inheritDoc}
      */
     @Override
-    protected boolean shouldGenerateNewObstacles(final long deltaTime, final GameParameters params) {
-        this.elapsedTime += deltaTime;
-
-        if (this.getObstacles().isEmpty()) {
-            return true;
-        }
+    protected long getSpawnInterval(final GameParameters params) {
+        return (long) (SPAWN_INTERVAL_MS / params.getTrainSpeedMultiplier());
+    }
 
-        final long adjustInterval = (long) (SPAWN_INTERVAL_MS / params.getTrainSpeedMultiplier());
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean canSpawn() {
+        return this.getObstacleCount() < MAX_TRAINS;
+    }
 
-        if (elapsedTime >= adjustInterval && this.getObstacles().size() < MAX_TRAINS) {
-            this.elapsedTime = 0;
-            return true;
-        }
-        return false;
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mustSpawn() {
+        return this.getObstacleCount() == 0;
     }
 
     /**
@@ -61,7 +77,8 @@ public final class Railway extends AbstractActiveChunk {
      */
     @Override
     protected void generateObstacles() {
-        final int y = (int) Math.round(this.getPosition().y() + RND.nextDouble(getDimension().height() - 1));
+        final double offset = this.getRandom().nextDouble(getDimension().height() - 1);
+        final int y = (int) Math.round(this.getPosition().y() + offset);
         final double x = direction == Direction.LEFT
                 ? this.getPosition().x() + this.getDimension().width() + 10
                 : this.getPosition().x() - 10;
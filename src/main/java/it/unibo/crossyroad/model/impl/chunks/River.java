@@ -1,5 +1,8 @@
 package it.unibo.crossyroad.model.impl.chunks;
 
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
 import it.unibo.crossyroad.model.api.chunks.AbstractActiveChunk;
 import it.unibo.crossyroad.model.api.obstacles.ActiveObstacle;
 import it.unibo.crossyroad.model.api.Dimension;
@@ -23,7 +26,6 @@ public final class River extends AbstractActiveChunk {
 
     private final double sectionHeight;
     private final Direction direction;
-    private long timeSinceLastGeneration;
 
     /**
      * Constructor for River.
@@ -33,7 +35,20 @@ public final class River extends AbstractActiveChunk {
      * @param direction The direction of the logs in the river.
      */
     public River(final Position initialPosition, final Dimension dimension, final Direction direction) {
-        super(initialPosition, dimension);
+        this(initialPosition, dimension, direction, new SplittableRandom());
+    }
+
+    /**
+     * Constructor for River.
+     *
+     * @param initialPosition The initial position of the River chunk.
+     * @param dimension The dimension of the River chunk.
+     * @param direction The direction of the logs in the river.
+     * @param random The random generator used to generate the content of the River chunk.
+     */
+    public River(final Position initialPosition, final Dimension dimension, final Direction direction,
+                 final RandomGenerator random) {
+        super(initialPosition, dimension, random);
 
         if (direction != Direction.LEFT && direction != Direction.RIGHT) {
             throw new IllegalArgumentException("Direction must be LEFT or RIGHT for River logs.");
@@ -57,16 +72,8 @@ public final class River extends AbstractActiveChunk {
      * {@inheritDoc}
      */
     @Override
-    protected boolean shouldGenerateNewObstacles(final long deltaTime, final GameParameters params) {
-        this.timeSinceLastGeneration += deltaTime;
-
-        final long adjustedLogInterval = (long) (LOG_INTERVAL / params.getLogSpeedMultiplier());
-
-        if (this.timeSinceLastGeneration >= adjustedLogInterval) {
-            this.timeSinceLastGeneration = 0;
-            return true;
-        }
-        return false;
+    protected long getSpawnInterval(final GameParameters params) {
+        return (long) (LOG_INTERVAL / params.getLogSpeedMultiplier());
     }
 
     private void addWater() {
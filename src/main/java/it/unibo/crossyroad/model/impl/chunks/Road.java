@@ -1,6 +1,7 @@
 package it.unibo.crossyroad.model.impl.chunks;
 
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 import it.unibo.crossyroad.model.api.chunks.AbstractActiveChunk;
 import it.unibo.crossyroad.model.api.GameParameters;
@@ -19,10 +20,8 @@ public final class Road extends AbstractActiveChunk {
     private static final long SPAWN_CAR_INTERVAL_MS = 1250;
     private static final int MAX_SPEED = 5;
     private static final int MIN_SPEED = 3;
-    private static final Random RND = new Random();
 
     private final Pair<Double, Double> laneSpeed;
-    private long elapsedTime;
 
     /**
      * Initializes the Chunk.
@@ -32,8 +31,21 @@ public final class Road extends AbstractActiveChunk {
      * @param dimension the ActiveChunk's dimension.
      */
     public Road(final Position initialPosition, final Dimension dimension) {
-        super(initialPosition, dimension);
-        this.laneSpeed = new Pair<>(RND.nextDouble(MIN_SPEED, MAX_SPEED), RND.nextDouble(MIN_SPEED, MAX_SPEED));
+        this(initialPosition, dimension, new SplittableRandom());
+    }
+
+    /**
+     * Initializes the Chunk.
+     *
+     * @param initialPosition the ActiveChunk's initial position.
+     *
+     * @param dimension the ActiveChunk's dimension.
+     *
+     * @param random the random generator used to generate the content of the Chunk.
+     */
+    public Road(final Position initialPosition, final Dimension dimension, final RandomGenerator random) {
+        super(initialPosition, dimension, random);
+        this.laneSpeed = new Pair<>(random.nextDouble(MIN_SPEED, MAX_SPEED), random.nextDouble(MIN_SPEED, MAX_SPEED));
         this.init();
     }
 
@@ -41,19 +53,24 @@ public final class Road extends AbstractActiveChunk {
      * {@inheritDoc}
      */
     @Override
-    protected boolean shouldGenerateNewObstacles(final long deltaTime, final GameParameters params) {
-        this.elapsedTime += deltaTime;
-        if (this.getObstacles().size() >= MAX_CARS_PER_CHUNKS) {
-            return false;
-        }
+    protected long getSpawnInterval(final GameParameters params) {
+        return (long) (SPAWN_CAR_INTERVAL_MS / params.getCarSpeedMultiplier());
+    }
 
-        final long adjustedInterval = (long) (SPAWN_CAR_INTERVAL_MS / params.getCarSpeedMultiplier());
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean canSpawn() {
+        return this.getObstacleCount() < MAX_CARS_PER_CHUNKS;
+    }
 
-        if (elapsedTime >= adjustedInterval || this.getObstacles().isEmpty()) {
-            this.elapsedTime = 0;
-            return true;
-        }
-        return false;
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mustSpawn() {
+        return this.getObstacleCount() == 0;
     }
 
     /**
@@ -61,7 +78,7 @@ public final class Road extends AbstractActiveChunk {
      */
     @Override
     protected void generateObstacles() {
-        final boolean isLeftLane = RND.nextBoolean();
+        final boolean isLeftLane = this.getRandom().nextBoolean();
         final Direction dir = isLeftLane ? Direction.LEFT : Direction.RIGHT;
         final double speed = isLeftLane ? this.laneSpeed.e2() : this.laneSpeed.e1();
         final double y = this.getPosition().y() + (isLeftLane ? 1 : 2);
@@ -0,0 +1,219 @@
+package it.unibo.crossyroad.model.impl.managers;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.function.Consumer;
+import java.util.stream.StreamSupport;
+
+import it.unibo.crossyroad.model.api.chunks.Chunk;
+import it.unibo.crossyroad.model.api.obstacles.Obstacle;
+
+/**
+ * The Chunks currently on the map, stacked one above the other and kept in a fixed-capacity ring buffer.
+ * Chunks are pushed at the top and evicted at the bottom in constant time, and the Chunk covering a row
+ * is found directly from its y coordinate.
+ */
+public final class ChunkWindow implements Iterable<Chunk> {
+    private final Chunk[] slots;
+    private final int chunkHeight;
+    private int topIndex;
+    private int size;
+
+    /**
+     * Creates an empty window.
+     *
+     * @param capacity the maximum number of Chunks in the window.
+     * @param chunkHeight the height of every Chunk.
+     * @throws IllegalArgumentException if capacity or chunkHeight are not positive.
+     */
+    public ChunkWindow(final int capacity, final int chunkHeight) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        if (chunkHeight <= 0) {
+            throw new IllegalArgumentException("Chunk height must be positive");
+        }
+        this.slots = new Chunk[capacity];
+        this.chunkHeight = chunkHeight;
+    }
+
+    /**
+     * Adds a Chunk right above the highest one.
+     *
+     * @param chunk the Chunk to add.
+     * @throws IllegalArgumentException if the Chunk isn't right above the highest one.
+     * @throws IllegalStateException if the window is full.
+     */
+    public void pushTop(final Chunk chunk) {
+        Objects.requireNonNull(chunk, "Chunk cannot be null");
+        if (this.size == this.slots.length) {
+            throw new IllegalStateException("The window is full");
+        }
+        final int index = this.toIndex(chunk.getPosition().y());
+        if (this.size > 0 && index != this.topIndex - 1) {
+            throw new IllegalArgumentException("The Chunk must be right above the highest one");
+        }
+        this.topIndex = index;
+        this.slots[this.slot(index)] = chunk;
+        this.size++;
+    }
+
+    /**
+     * Removes the highest Chunk.
+     *
+     * @return the removed Chunk.
+     * @throws NoSuchElementException if the window is empty.
+     */
+    public Chunk removeTop() {
+        final Chunk top = this.getTop();
+        this.slots[this.slot(this.topIndex)] = null;
+        this.topIndex++;
+        this.size--;
+        return top;
+    }
+
+    /**
+     * Removes the lowest Chunk.
+     *
+     * @return the removed Chunk.
+     * @throws NoSuchElementException if the window is empty.
+     */
+    public Chunk removeBottom() {
+        final Chunk bottom = this.getBottom();
+        this.slots[this.slot(this.bottomIndex())] = null;
+        this.size--;
+        return bottom;
+    }
+
+    /**
+     * Returns the highest Chunk.
+     *
+     * @return the highest Chunk.
+     * @throws NoSuchElementException if the window is empty.
+     */
+    public Chunk getTop() {
+        this.checkNotEmpty();
+        return this.slots[this.slot(this.topIndex)];
+    }
+
+    /**
+     * Returns the lowest Chunk.
+     *
+     * @return the lowest Chunk.
+     * @throws NoSuchElementException if the window is empty.
+     */
+    public Chunk getBottom() {
+        this.checkNotEmpty();
+        return this.slots[this.slot(this.bottomIndex())];
+    }
+
+    /**
+     * Returns the Chunk covering a row.
+     *
+     * @param y the y coordinate of the row.
+     * @return the Chunk covering the row, if it's in the window.
+     */
+    public Optional<Chunk> getChunkAt(final double y) {
+        final int index = this.toIndex(y);
+        if (this.size == 0 || index < this.topIndex || index > this.bottomIndex()) {
+            return Optional.empty();
+        }
+        return Optional.of(this.slots[this.slot(index)]);
+    }
+
+    /**
+     * Performs an action on each Obstacle on a row that meets a horizontal segment, asking the Chunk covering the row.
+     * Nothing is allocated, so it can be used at every update.
+     *
+     * @param y the y coordinate of the row.
+     * @param fromX the left end of the segment, included.
+     * @param toX the right end of the segment, included.
+     * @param action the action to perform.
+     * @see Chunk#forEachObstacleInRow(int, double, double, Consumer)
+     */
+    public void forEachObstacleInRow(final int y, final double fromX, final double toX,
+                                     final Consumer<? super Obstacle> action) {
+        final int index = this.toIndex(y);
+        if (this.size > 0 && index >= this.topIndex && index <= this.bottomIndex()) {
+            this.slots[this.slot(index)].forEachObstacleInRow(y, fromX, toX, action);
+        }
+    }
+
+    /**
+     * Returns the number of Chunks in the window.
+     *
+     * @return the number of Chunks.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Tells whether the window is empty.
+     *
+     * @return true if there are no Chunks.
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Returns the Chunks as a sequential Stream, from the highest to the lowest.
+     *
+     * @return a Stream of the Chunks.
+     */
+    public Stream<Chunk> stream() {
+        return StreamSupport.stream(
+            Spliterators.spliterator(this.iterator(), this.size, Spliterator.ORDERED | Spliterator.NONNULL),
+            false
+        );
+    }
+
+    /**
+     * Returns an iterator over the Chunks, from the highest to the lowest.
+     *
+     * @return an iterator over the Chunks.
+     */
+    @Override
+    public Iterator<Chunk> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return this.next < ChunkWindow.this.size;
+            }
+
+            @Override
+            public Chunk next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return ChunkWindow.this.slots[ChunkWindow.this.slot(ChunkWindow.this.topIndex + this.next++)];
+            }
+        };
+    }
+
+    private void checkNotEmpty() {
+        if (this.size == 0) {
+            throw new NoSuchElementException("The window is empty");
+        }
+    }
+
+    private int bottomIndex() {
+        return this.topIndex + this.size - 1;
+    }
+
+    private int toIndex(final double y) {
+        return Math.floorDiv((int) Math.floor(y), this.chunkHeight);
+    }
+
+    private int slot(final int index) {
+        return Math.floorMod(index, this.slots.length);
+    }
+}
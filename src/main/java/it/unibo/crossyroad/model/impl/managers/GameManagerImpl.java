@@ -1,32 +1,35 @@
 package it.unibo.crossyroad.model.impl.managers;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Queue;
-import java.util.Random;
-import java.util.Set;
+import java.util.OptionalLong;
+import java.util.SplittableRandom;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
-import com.google.common.collect.Range;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
-import it.unibo.crossyroad.model.api.chunks.AbstractChunk;
 import it.unibo.crossyroad.model.api.chunks.Chunk;
 import it.unibo.crossyroad.model.api.Dimension;
 import it.unibo.crossyroad.model.api.Direction;
 import it.unibo.crossyroad.model.api.EntityType;
+import it.unibo.crossyroad.model.api.Frame;
+import it.unibo.crossyroad.model.api.GameEvent;
+import it.unibo.crossyroad.model.api.GameEventRing;
 import it.unibo.crossyroad.model.api.managers.GameManager;
 import it.unibo.crossyroad.model.api.GameParameters;
+import it.unibo.crossyroad.model.api.Geometry;
+import it.unibo.crossyroad.model.api.obstacles.ActiveObstacle;
 import it.unibo.crossyroad.model.api.obstacles.Obstacle;
 import it.unibo.crossyroad.model.api.Pair;
 import it.unibo.crossyroad.model.api.pickables.Pickable;
 import it.unibo.crossyroad.model.api.Position;
 import it.unibo.crossyroad.model.api.Positionable;
+import it.unibo.crossyroad.model.api.TimingWheel;
 import it.unibo.crossyroad.model.api.pickables.PowerUp;
 import it.unibo.crossyroad.model.api.obstacles.CollisionType;
 import it.unibo.crossyroad.model.impl.PositionablePlayer;
@@ -34,12 +37,12 @@ import it.unibo.crossyroad.model.impl.chunks.Grass;
 import it.unibo.crossyroad.model.impl.chunks.Railway;
 import it.unibo.crossyroad.model.impl.chunks.River;
 import it.unibo.crossyroad.model.impl.chunks.Road;
-import it.unibo.crossyroad.model.impl.obstacles.Rock;
-import it.unibo.crossyroad.model.impl.obstacles.Tree;
 import it.unibo.crossyroad.model.impl.pickables.Coin;
 
 /**
  * Implementation of the GameManager interface.
+ * Every element keeps its position in world coordinates: when the map moves, only the scroll offset changes.
+ * What happens during the game is published as {@link GameEvent}s, by the thread that drives it.
  * 
  * @see GameManager
  */
@@ -56,11 +59,12 @@ public final class GameManagerImpl implements GameManager {
     private static final double FIRST_PROBABILITY = 0.3;
     private static final double SECOND_PROBABILITY = 0.6;
     private static final double THIRD_PROBABILITY = 0.8;
-    private static final double COMPARISON_EPSILON = 0.000_01;
     private static final Dimension CHUNK_DIMENSION = new Dimension(MAP_WIDTH, MAP_HEIGHT / 3); 
     private static final Position PLAYER_START_POSITION = new Position(5, 8);
-    private static final Position CHUNK_START_POSITION = new Position(0, -12);
-    private static final Random RANDOM = new Random();
+    private static final int GRID_ROWS = (int) Y_DISPOSE_CHUNK_MARK - Y_UPPER_CHUNK;
+    private static final int CHUNK_WINDOW_CAPACITY = GRID_ROWS / (int) CHUNK_DIMENSION.height();
+    private static final int MAX_GENERATION_ATTEMPTS = 32;
+    private static final int EVENT_CAPACITY = 256;
 
     private static final int INCREASE_SPEED_MULTIPLIER_FREQUENCY = 25;
     private static final double CAR_SPEED_MULTIPLIER_INCREMENT = 0.05;
@@ -71,12 +75,41 @@ public final class GameManagerImpl implements GameManager {
     private static final double MAX_LOG_SPEED_MULTIPLIER = 5.0;
 
     private final GameParameters gameParameters;
-    private List<Chunk> chunks;
+    private final OptionalLong seed;
+    private final GameEventRing events = new GameEventRing(EVENT_CAPACITY);
+    private final Consumer<EntityType> publishExpiry =
+        type -> this.events.publish(GameEvent.POWER_UP_EXPIRED, type, 0);
+    private final Consumer<Obstacle> collisionCheck = this::checkCollision;
+    private final Consumer<Obstacle> transportSearch = this::checkTransport;
+    //Results of the visits of the lanes around the player, kept here so that the visits don't allocate
+    private boolean deadlyCollision;
+    private boolean transportCollision;
+    private double transportProbeX;
+    private double transportProbeY;
+    private Obstacle carryingTransport;
+    private TimingWheel timers;
+    private PowerUpRegistry powerUps;
+    private SplittableRandom mapRandom;
+    private SplittableRandom chunkRandom;
+    private ChunkWindow chunks;
+    private OccupancyGrid grid;
+    private RowReachability reachability;
     private Pair<EntityType, Integer> lastGenerated;
     private Optional<Obstacle> currentTransport = Optional.empty();
     private PositionablePlayer player;
+    private double scrollOffset;
+    private Position lastPlayerPosition;
+    private Position previousPlayerPosition;
+    private double lastScrollOffset;
+    private double previousScrollOffset;
+    private long lastDeltaTime;
+    private long backgroundVersion;
     private boolean isGameOver;
+    private boolean isGameOverPublished;
     private boolean wasOnTransport;
+    private double carSpeedMultiplier;
+    private double trainSpeedMultiplier;
+    private double logSpeedMultiplier;
 
     /**
      * Initializes the GameManager with the GameParameters.
@@ -90,6 +123,26 @@ public final class GameManagerImpl implements GameManager {
     public GameManagerImpl(final GameParameters g) {
         Objects.requireNonNull(g, "Game parameters cannot be null");
         this.gameParameters = g;
+        this.seed = OptionalLong.empty();
+    }
+
+    /**
+     * Initializes the GameManager with the GameParameters and a seed. Every game started by
+     * {@link #reset()} is generated from the seed, so the same seed and the same moves always
+     * give the same game.
+     * 
+     * @param g the GameParameters to use in the game.
+     * 
+     * @param seed the seed of the random generators of the game.
+     */
+    @SuppressFBWarnings(
+        value = "EI2",
+        justification = "GameParameters are required to be an externally mutable object."
+    )
+    public GameManagerImpl(final GameParameters g, final long seed) {
+        Objects.requireNonNull(g, "Game parameters cannot be null");
+        this.gameParameters = g;
+        this.seed = OptionalLong.of(seed);
     }
 
     /**
@@ -97,13 +150,68 @@ public final class GameManagerImpl implements GameManager {
      */
     @Override
     public List<Positionable> getPositionables() {
-        final List<Positionable> positionables = new LinkedList<>();
+        final List<Positionable> positionables = new ArrayList<>();
         positionables.add(this.player);
-        positionables.addAll(this.chunks);
-        positionables.addAll(this.getObstaclesOnMap());
-        positionables.addAll(this.getPickablesOnMap().stream().filter(p -> !p.isPickedUp()).toList());
+        this.chunks.forEach(positionables::add);
+        this.chunks.forEach(c -> c.forEachObstacle(positionables::add));
+        this.chunks.forEach(c -> c.forEachPickable(p -> {
+            if (!p.isPickedUp()) {
+                positionables.add(p);
+            }
+        }));
+
+        return Collections.unmodifiableList(positionables);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeFrame(final Frame frame) {
+        Objects.requireNonNull(frame, "Frame cannot be null");
+        frame.clear();
+        frame.setScrollOffset(this.scrollOffset, this.previousScrollOffset);
+        frame.setCounters(this.gameParameters.getCoinCount(), this.gameParameters.getScore());
+        frame.setBackgroundVersion(this.backgroundVersion);
+        frame.add(EntityType.PLAYER, this.player.getPosition(), this.player.getDimension(), this.previousPlayerPosition);
+        this.chunks.forEach(c -> frame.add(c.getEntityType(), c.getPosition(), c.getDimension(), c.getPosition()));
+        this.chunks.forEach(c -> c.forEachObstacle(o -> frame.add(o.getEntityType(), o.getPosition(), o.getDimension(),
+            this.getPreviousPosition(o))));
+        this.chunks.forEach(c -> c.forEachPickable(p -> {
+            if (!p.isPickedUp()) {
+                frame.add(p.getEntityType(), p.getPosition(), p.getDimension(), p.getPosition());
+            }
+        }));
+        this.powerUps.forEachActive(frame::addPowerUp);
+    }
+
+    /**
+     * Gets the position an Obstacle had at the update before the last one. Only the active ones move.
+     *
+     * @param obstacle the Obstacle.
+     * @return the previous position of the Obstacle.
+     */
+    private Position getPreviousPosition(final Obstacle obstacle) {
+        if (obstacle instanceof ActiveObstacle active) {
+            return active.positionAt(Math.max(0, active.getAge() - this.lastDeltaTime));
+        }
+        return obstacle.getPosition();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GameEventRing getEvents() {
+        return this.events;
+    }
 
-        return List.copyOf(positionables);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getScrollOffset() {
+        return this.scrollOffset;
     }
 
     /**
@@ -111,9 +219,7 @@ public final class GameManagerImpl implements GameManager {
      */
     @Override
     public Map<EntityType, Long> getActivePowerUps() {
-        return this.chunks.stream()
-                          .flatMap(c -> c.getActivePowerUp().stream())
-                          .collect(Collectors.toMap(Pickable::getEntityType, PowerUp::getRemaining, Math::min));
+        return this.powerUps.toMap();
     }
 
     /**
@@ -124,10 +230,7 @@ public final class GameManagerImpl implements GameManager {
         final Optional<Obstacle> transport = this.getTransportCarryingPlayer();
         final Optional<Position> positionBefore = transport.map(Obstacle::getPosition);
 
-        this.chunks.stream()
-                   .filter(c -> c instanceof AbstractChunk)
-                   .map(c -> (AbstractChunk) c)
-                   .forEach(ac -> ac.update(this.gameParameters, deltaTime));
+        this.chunks.forEach(c -> c.update(this.gameParameters, deltaTime));
 
         if (transport.isPresent() && positionBefore.isPresent()) {
             movePlayerWithTransport(positionBefore.get(), transport.get().getPosition());
@@ -138,6 +241,34 @@ public final class GameManagerImpl implements GameManager {
 
         this.checkCoinsCollision();
         this.checkPowerUpCollisions();
+
+        //Only the due spawns and expiries run, whatever the number of Chunks and PowerUps
+        this.rescheduleIfSpeedsChanged();
+        this.timers.advance(deltaTime);
+
+        //Kept for the frames, which interpolate between the last two updates
+        this.lastDeltaTime = deltaTime;
+        this.previousPlayerPosition = this.lastPlayerPosition;
+        this.lastPlayerPosition = this.player.getPosition();
+        this.previousScrollOffset = this.lastScrollOffset;
+        this.lastScrollOffset = this.scrollOffset;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getQuietTime(final long limit) {
+        //A player carried by a transport moves too, and one that just left it is aligned at the next update
+        if (limit <= 0 || this.isGameOver || this.wasOnTransport || this.getTransportCarryingPlayer().isPresent()
+                || this.haveSpeedsChanged()) {
+            return 0;
+        }
+        long time = Math.min(limit, this.timers.getTimeToNext() - 1);
+        for (final Chunk chunk : this.chunks) {
+            time = chunk.getQuietTime(this.player, this.gameParameters, time);
+        }
+        return time;
     }
 
     /**
@@ -145,15 +276,17 @@ public final class GameManagerImpl implements GameManager {
      */
     @Override
     public void movePlayer(final Direction d) {
-        final boolean pathStatus = this.isThereAPath(Optional.empty());
+        final boolean pathStatus = this.isThereAPath();
 
         if (this.canPlayerMove(d)) {
-            if (d == Direction.UP && this.player.getPosition().y() <= Y_MOVE_MAP_MARK) {
-                if (pathStatus && !this.isThereAPath(Optional.empty())) {
+            if (d == Direction.UP && this.toScreenY(this.player.getPosition().y()) <= Y_MOVE_MAP_MARK) {
+                if (pathStatus && !this.isThereAPath()) {
                     this.isGameOver = true;
                 } else {
+                    this.player.move(d, 1);
                     this.moveMap();
                     this.gameParameters.incrementScore();
+                    this.events.publish(GameEvent.SCORE_INCREMENTED, EntityType.PLAYER, this.gameParameters.getScore());
                     this.increaseSpeedsMultiplier();
                 }
             } else {
@@ -170,6 +303,11 @@ public final class GameManagerImpl implements GameManager {
         if (!this.isGameOver) {
             this.isGameOver = this.checkDeadlyCollisions();
         }
+        //The game may have been ended by another thread, the event is published by the one driving the game
+        if (this.isGameOver && !this.isGameOverPublished) {
+            this.isGameOverPublished = true;
+            this.events.publish(GameEvent.GAME_OVER, EntityType.PLAYER, this.gameParameters.getScore());
+        }
         return this.isGameOver;
     }
 
@@ -179,26 +317,56 @@ public final class GameManagerImpl implements GameManager {
     @Override
     public void reset() {
         this.player = new PositionablePlayer(PLAYER_START_POSITION);
-        this.chunks = new LinkedList<>();
+        this.scrollOffset = 0;
+        this.lastPlayerPosition = PLAYER_START_POSITION;
+        this.previousPlayerPosition = PLAYER_START_POSITION;
+        this.lastScrollOffset = 0;
+        this.previousScrollOffset = 0;
+        this.lastDeltaTime = 0;
+        this.backgroundVersion++;
         this.isGameOver = false;
+        this.isGameOverPublished = false;
         this.gameParameters.reset();
+        this.carSpeedMultiplier = this.gameParameters.getCarSpeedMultiplier();
+        this.trainSpeedMultiplier = this.gameParameters.getTrainSpeedMultiplier();
+        this.logSpeedMultiplier = this.gameParameters.getLogSpeedMultiplier();
+
+        //The map and each Chunk draw from their own stream, all derived from the seed of the game
+        final SplittableRandom root = this.seed.isPresent()
+            ? new SplittableRandom(this.seed.getAsLong())
+            : new SplittableRandom();
+        this.mapRandom = root.split();
+        this.chunkRandom = root.split();
+
+        //Regenerate until there's a valid path, going on with the same generators
+        do {
+            this.createFirstChunks();
+        } while (!this.isThereAPath());
+
+        this.powerUps = new PowerUpRegistry(this.timers, this.gameParameters, this.publishExpiry);
+        this.removeUnreachablePickables();
+        this.events.publish(GameEvent.GAME_RESET, EntityType.PLAYER, this.gameParameters.getCoinCount());
+    }
 
-        //Adds the first chunks to start the game
-        for (int i = Y_UPPER_CHUNK; i <= Y_LOWER_CHUNK; i += 3) {
+    /**
+     * Replaces the Chunks on the map with the first ones of the game, from the bottom up.
+     */
+    private void createFirstChunks() {
+        this.timers = new TimingWheel();
+        this.chunks = new ChunkWindow(CHUNK_WINDOW_CAPACITY, (int) CHUNK_DIMENSION.height());
+        this.grid = new OccupancyGrid((int) MAP_WIDTH, Y_UPPER_CHUNK, GRID_ROWS);
+        this.reachability = new RowReachability(this.grid, (int) MAP_WIDTH, Y_UPPER_CHUNK, (int) MAP_HEIGHT - 1);
+        for (int i = Y_LOWER_CHUNK; i >= Y_UPPER_CHUNK; i -= 3) {
             if (i <= Y_CREATE_CHUNK_MARK || i >= 0) {
-                this.chunks.add(new Grass(new Position(0, i), CHUNK_DIMENSION, true));
+                this.chunks.pushTop(new Grass(new Position(0, i), CHUNK_DIMENSION, true, this.chunkRandom.split()));
             } else {
-                this.chunks.add(new Road(new Position(0, i), CHUNK_DIMENSION));
+                this.chunks.pushTop(new Road(new Position(0, i), CHUNK_DIMENSION, this.chunkRandom.split()));
             }
         }
+        this.chunks.forEach(this.grid::addChunk);
+        this.chunks.forEach(c -> c.useTimers(this.timers));
+        this.reachability.reset(Y_UPPER_CHUNK);
         this.lastGenerated = new Pair<>(EntityType.GRASS, 2);
-
-        //Regenerate until there's a valid path
-        if (!this.isThereAPath(Optional.empty())) {
-            this.reset();
-        }
-
-        this.removeUnreachablePickables();
     }
 
     /**
@@ -210,48 +378,13 @@ public final class GameManagerImpl implements GameManager {
     }
 
     /**
-     * Checks if there is a valid path the player can use.
-     *
-     * @param destination the optional precise destination to reach,
-     *     if empty it checks a path to reach the end of the map.
+     * Checks if there is a valid path the player can use to reach the end of the map.
+     * The answer is cached by the reachability engine until the map changes.
      *
      * @return true if there is a valid path, false otherwise.
      */
-    private boolean isThereAPath(final Optional<Position> destination) {
-        final Set<Position> visited = new HashSet<>();
-        final Queue<Position> queue = new LinkedList<>();
-
-        queue.add(this.player.getPosition());
-        visited.add(this.player.getPosition());
-
-        while (!queue.isEmpty()) {
-            final Position current = queue.poll();
-
-            //If a destination is passed check if it's reached
-            if (destination.isPresent() && current.equals(destination.get())) {
-                return true;
-            }
-
-            //If a destination is not passed check for the map end
-            if (destination.isEmpty() && Math.abs(current.y() - CHUNK_START_POSITION.y()) < COMPARISON_EPSILON) {
-                return true;
-            }
-
-            for (final Direction d : Direction.values()) {
-                final Position newPosition = d.apply(current);
-                if (newPosition.x() >= 0 && newPosition.x() < MAP_WIDTH && newPosition.y() < MAP_HEIGHT
-                    && newPosition.y() >= CHUNK_START_POSITION.y() && this.getObstaclesOnMap().stream()
-                                                                           .filter(o -> o instanceof Rock || o instanceof Tree)
-                                                                           .noneMatch(o -> o.getPosition().equals(newPosition))
-                    && !visited.contains(newPosition)) {
-
-                    visited.add(newPosition);
-                    queue.add(newPosition);
-                }
-            }
-        }
-
-        return false;
+    private boolean isThereAPath() {
+        return this.reachability.isTopReachable(this.player.getPosition());
     }
 
     /**
@@ -280,18 +413,33 @@ public final class GameManagerImpl implements GameManager {
     }
 
     /**
-     * Gets the transport Active Obstacle the player is on.
+     * Gets the transport Active Obstacle the player is on, the one under the center of the player.
      *
-     * @return the transport Active Obstacle the player is currently on, or null if there is none.
+     * @return the transport Active Obstacle the player is currently on, if there is one.
      */
     private Optional<Obstacle> getTransportCarryingPlayer() {
-        return this.getObstaclesOnMap().stream()
-            .filter(o -> o.getCollisionType() == CollisionType.TRANSPORT)
-            .filter(o -> o.contains(
-                Position.of(player.getDimension().width() / 2, player.getDimension().height() / 2)
-                    .relative(player.getPosition())
-            ))
-            .findFirst();
+        final Position pos = this.player.getPosition();
+        this.transportProbeX = this.player.getDimension().width() / 2 + pos.x();
+        this.transportProbeY = this.player.getDimension().height() / 2 + pos.y();
+        this.carryingTransport = null;
+        this.chunks.forEachObstacleInRow((int) Math.floor(this.transportProbeY), this.transportProbeX, this.transportProbeX,
+            this.transportSearch);
+        final Obstacle transport = this.carryingTransport;
+        this.carryingTransport = null;
+        return Optional.ofNullable(transport);
+    }
+
+    /**
+     * Keeps the first transport Obstacle of the lane visit that contains the center of the player.
+     *
+     * @param obs an Obstacle on the row of the center of the player.
+     */
+    private void checkTransport(final Obstacle obs) {
+        if (this.carryingTransport == null && obs.getCollisionType() == CollisionType.TRANSPORT
+                && Geometry.intervalContains(obs.getPosition().x(), obs.getDimension().width(), this.transportProbeX)
+                && Geometry.intervalContains(obs.getPosition().y(), obs.getDimension().height(), this.transportProbeY)) {
+            this.carryingTransport = obs;
+        }
     }
 
     /**
@@ -359,69 +507,107 @@ public final class GameManagerImpl implements GameManager {
      */
     private boolean checkDeadlyCollisions() {
         //Check if player is outside the map (deadly)
-        final Range<Double> xRange = Range.closed(0.0, MAP_WIDTH);
-        if (!xRange.contains(this.player.getPosition().x())) {
+        if (!Geometry.isBetween(this.player.getPosition().x(), 0, MAP_WIDTH)) {
             return true;
         }
 
-        boolean deadlyCollision = false;
-        boolean transportCollision = false;
+        this.deadlyCollision = false;
+        this.transportCollision = false;
 
         //Check obstacles collisions (deadly if player is not on transport)
         if (!this.gameParameters.isInvincible()) {
-            for (final Obstacle obs : this.getObstaclesOnMap().stream().filter(o -> o.overlaps(this.player)).toList()) {
-                if (obs.getCollisionType() == CollisionType.DEADLY) {
-                    deadlyCollision = true;
-                } else if (obs.getCollisionType() == CollisionType.TRANSPORT && this.currentTransport.isPresent()) {
-                    transportCollision = true;
-                }
-            }
+            this.forEachObstacleNearPlayer(this.collisionCheck);
         }
 
-        return deadlyCollision && !transportCollision;
+        return this.deadlyCollision && !this.transportCollision;
     }
 
     /**
-     * Generates a new Chunk.
+     * Records the collision of the player with an Obstacle of the lanes it occupies, if they overlap.
+     *
+     * @param obs an Obstacle around the player.
+     */
+    private void checkCollision(final Obstacle obs) {
+        if (obs.overlaps(this.player)) {
+            if (obs.getCollisionType() == CollisionType.DEADLY) {
+                this.deadlyCollision = true;
+            } else if (obs.getCollisionType() == CollisionType.TRANSPORT && this.currentTransport.isPresent()) {
+                this.transportCollision = true;
+            }
+        }
+    }
+
+    /**
+     * Generates a new Chunk, retrying until there's a valid path. After too many attempts a Road,
+     * which can't block the player, is placed instead.
      */
     private void generateChunk() {
-        Chunk newChunk = new Grass(CHUNK_START_POSITION, CHUNK_DIMENSION);
+        int attempts = 0;
+        Chunk newChunk;
+        boolean isValid;
+
+        do {
+            attempts++;
+            newChunk = attempts < MAX_GENERATION_ATTEMPTS
+                ? this.createRandomChunk()
+                : new Road(this.getChunkStartPosition(), CHUNK_DIMENSION, this.chunkRandom.split());
+            this.chunks.pushTop(newChunk);
+            this.grid.addChunk(newChunk);
+
+            //Only the rows of the new chunk are checked, starting from the cached reachable cells.
+            //The Road can't block the player: if it leaves no path, the way is blocked below and it's kept anyway
+            isValid = this.reachability.extendTo((int) this.getChunkStartPosition().y(), this.player.getPosition())
+                || attempts >= MAX_GENERATION_ATTEMPTS;
+            if (!isValid) {
+                this.chunks.removeTop();
+                this.grid.removeChunk(newChunk);
+                this.reachability.retract();
+            }
+        } while (!isValid);
+        newChunk.useTimers(this.timers);
+        this.updateLastGenerated(newChunk.getEntityType());
+        this.events.publish(GameEvent.CHUNK_GENERATED, newChunk.getEntityType(), (long) newChunk.getPosition().y());
+
+        this.removeUnreachablePickables();
+    }
+
+    /**
+     * Creates a random Chunk, following the rules on the sequence of Chunk types.
+     *
+     * @return the new Chunk.
+     */
+    private Chunk createRandomChunk() {
+        final Position start = this.getChunkStartPosition();
 
         //Place a Grass chunk after every railway, every river and every 2 roads
         if (this.lastGenerated.e1() != EntityType.RAILWAY && this.lastGenerated.e1() != EntityType.RIVER
             && (this.lastGenerated.e1() != EntityType.ROAD || this.lastGenerated.e2() < 2)) {
             //Generate a random chunk, each one with different probability
-            final double number = RANDOM.nextDouble();
-            if (number <= FIRST_PROBABILITY) {
-                newChunk = new Grass(CHUNK_START_POSITION, CHUNK_DIMENSION);
-            } else if (number <= SECOND_PROBABILITY) {
-                newChunk = new Road(CHUNK_START_POSITION, CHUNK_DIMENSION);
-            } else if (number <= THIRD_PROBABILITY) {
-                newChunk = new Railway(CHUNK_START_POSITION, CHUNK_DIMENSION);
-            } else {
-                final Direction riverDirection = RANDOM.nextBoolean() ? Direction.LEFT : Direction.RIGHT;
-                newChunk = new River(CHUNK_START_POSITION, CHUNK_DIMENSION, riverDirection);
+            final double number = this.mapRandom.nextDouble();
+            if (number > THIRD_PROBABILITY) {
+                final Direction riverDirection = this.mapRandom.nextBoolean() ? Direction.LEFT : Direction.RIGHT;
+                return new River(start, CHUNK_DIMENSION, riverDirection, this.chunkRandom.split());
+            } else if (number > SECOND_PROBABILITY) {
+                return new Railway(start, CHUNK_DIMENSION, this.chunkRandom.split());
+            } else if (number > FIRST_PROBABILITY) {
+                return new Road(start, CHUNK_DIMENSION, this.chunkRandom.split());
             }
         }
-        this.chunks.add(newChunk);
-
-        //Regenerate until there's a valid path
-        if (!this.isThereAPath(Optional.empty())) {
-            this.chunks.removeIf(c -> c.getPosition().equals(CHUNK_START_POSITION));
-            this.generateChunk();
-        }
-        this.updateLastGenerated(newChunk.getEntityType());
-
-        this.removeUnreachablePickables();
+        return new Grass(start, CHUNK_DIMENSION, false, this.chunkRandom.split());
     }
 
     /**
-     * Remove the unreachable pickables on the map.
+     * Remove the unreachable pickables on the map, with a single reachability computation shared by all of them.
      */
     private void removeUnreachablePickables() {
+        final Position playerPosition = this.player.getPosition();
         this.chunks.forEach(c -> c.getPickables().stream()
-                                                 .filter(p -> !p.isPickedUp() && !this.isThereAPath(Optional.of(p.getPosition())))
-                                                 .forEach(c::removePickable)
+                                                 .filter(p -> !p.isPickedUp()
+                                                     && !this.reachability.isReachable(p.getPosition(), playerPosition))
+                                                 .forEach(p -> {
+                                                     c.removePickable(p);
+                                                     this.grid.removePickable(p);
+                                                 })
                             );
     }
 
@@ -449,44 +635,59 @@ public final class GameManagerImpl implements GameManager {
      */
     private boolean canPlayerMove(final Direction d) {
         //Checks Passive obstacles collisions
-        for (final Obstacle obs : this.getObstaclesOnMap()) {
-            if ((obs instanceof Rock || obs instanceof Tree) && d.apply(this.player.getPosition()).equals(obs.getPosition())) {
-                return false;
-            }
+        if (this.grid.isBlocked(d.apply(this.player.getPosition()))) {
+            return false;
         }
 
         //Checks map border collisions
-        final Range<Double> xRange = Range.closed(0.0, MAP_WIDTH - 1);
-        final Range<Double> yRange = Range.closed(0.0, MAP_HEIGHT - 1);
-        return xRange.contains(d.apply(this.player.getPosition()).x()) && yRange.contains(d.apply(this.player.getPosition()).y());
+        final Position destination = d.apply(this.player.getPosition());
+        return Geometry.isBetween(destination.x(), 0, MAP_WIDTH - 1)
+            && Geometry.isBetween(this.toScreenY(destination.y()), 0, MAP_HEIGHT - 1);
     }
 
     /**
      * Checks if the player is colliding with a Coin, if so pickup the coin.
      */
     private void checkCoinsCollision() {
-        this.getPickablesOnMap().stream()
-                                .filter(p -> p instanceof Coin && p.overlaps(this.player))
-                                .map(p -> (Coin) p)
-                                .forEach(c -> {
-                                    c.pickUp(this.gameParameters);
-                                    this.chunks.forEach(ch -> ch.removePickable(c));
-                                });
+        this.getPickablesUnderPlayer().stream()
+                                      .filter(p -> p instanceof Coin)
+                                      .map(p -> (Coin) p)
+                                      .forEach(c -> {
+                                          c.pickUp(this.gameParameters);
+                                          this.chunks.getChunkAt(c.getPosition().y()).ifPresent(ch -> ch.removePickable(c));
+                                          this.grid.removePickable(c);
+                                          this.events.publish(GameEvent.COIN_PICKED, c.getEntityType(),
+                                                              this.gameParameters.getCoinCount());
+                                      });
     }
 
     /**
      * Picks up the PowerUps the player is colliding with. 
      */
     private void checkPowerUpCollisions() {
-        this.chunks.forEach(chunk -> {
-            final List<PowerUp> collectablePowerUps = chunk.getPickables().stream()
-                    .filter(this::isCollectablePowerUp)
-                    .map(p -> (PowerUp) p)
-                    .toList();
+        this.getPickablesUnderPlayer().stream()
+                                      .filter(this::isCollectablePowerUp)
+                                      .map(p -> (PowerUp) p)
+                                      .forEach(powerUp -> this.chunks.getChunkAt(powerUp.getPosition().y())
+                                                                     .ifPresent(c -> this.activateOrExtendPowerUp(powerUp, c)));
+    }
 
-            collectablePowerUps.forEach(powerUp ->
-                    this.activateOrExtendPowerUp(powerUp, chunk));
-        });
+    /**
+     * Gets the Pickables, not yet picked up, that overlap the player, looking only at the cells under it.
+     *
+     * @return a List of the Pickables overlapping the player.
+     */
+    private List<Pickable> getPickablesUnderPlayer() {
+        final Position pos = this.player.getPosition();
+        final List<Pickable> pickables = new LinkedList<>();
+        for (int y = (int) Math.floor(pos.y()); y <= (int) Math.ceil(pos.y()); y++) {
+            for (int x = (int) Math.floor(pos.x()); x <= (int) Math.ceil(pos.x()); x++) {
+                this.grid.getPickable(x, y)
+                         .filter(p -> p.overlaps(this.player))
+                         .ifPresent(pickables::add);
+            }
+        }
+        return pickables;
     }
 
     /**
@@ -503,70 +704,99 @@ public final class GameManagerImpl implements GameManager {
 
     /**
      * If a power-up of the same type is already active, extends its duration.
-     * Otherwise, activates the new power-up.
+     * Otherwise, activates the new power-up. Either way it leaves its Chunk, which can then leave the map.
      *
      * @param powerUp the power-up
      * @param chunk the chunk containing the power-up
      */
     private void activateOrExtendPowerUp(final PowerUp powerUp, final Chunk chunk) {
-        if (this.getActivePowerUps().containsKey(powerUp.getEntityType())) {
-            extendExistingPowerUp(powerUp, chunk);
+        final EntityType type = powerUp.getEntityType();
+        if (this.powerUps.isActive(type)) {
+            this.events.publish(GameEvent.POWER_UP_EXTENDED, type, this.powerUps.extend(type, powerUp.getRemaining()));
         } else {
             powerUp.pickUp(this.gameParameters);
+            this.powerUps.activate(powerUp);
+            this.events.publish(GameEvent.POWER_UP_ACTIVATED, type, powerUp.getRemaining());
         }
+        chunk.removePickable(powerUp);
+        this.grid.removePickable(powerUp);
     }
 
     /**
-     * Extends the duration of an already active power-up.
-     *
-     * @param newPowerUp the newly collected power-up
-     * @param chunk the chunk containing the new power-up
+     * Performs an action on the Obstacles that may overlap the player, looking only at the lanes of the rows it occupies.
+     * 
+     * @param action the action to perform.
      */
-    private void extendExistingPowerUp(final PowerUp newPowerUp, final Chunk chunk) {
-        this.getPickablesOnMap().stream()
-            .filter(p -> p.getEntityType() == newPowerUp.getEntityType() && p.isPickedUp())
-            .findFirst()
-            .ifPresent(existing -> {
-                ((PowerUp) existing).addTime(newPowerUp.getRemaining());
-                chunk.removePickable(newPowerUp);
-            });
+    private void forEachObstacleNearPlayer(final Consumer<Obstacle> action) {
+        final Position pos = this.player.getPosition();
+        final double right = pos.x() + this.player.getDimension().width();
+        final int lastRow = (int) Math.ceil(pos.y() + this.player.getDimension().height()) - 1;
+        for (int row = (int) Math.floor(pos.y()); row <= lastRow; row++) {
+            this.chunks.forEachObstacleInRow(row, pos.x(), right, action);
+        }
     }
 
     /**
-     * Gets the Obstacles currently present on the map.
-     * 
-     * @return a List of the Obstacles currently present on the map.
+     * Reschedules the timers of the Chunks if a speed multiplier changed since the last update,
+     * because of the score or of a PowerUp.
      */
-    private List<Obstacle> getObstaclesOnMap() {
-        final List<Obstacle> obstacles = new LinkedList<>();
-        this.chunks.forEach(c -> obstacles.addAll(c.getObstacles()));
-        return obstacles;
+    private void rescheduleIfSpeedsChanged() {
+        if (this.haveSpeedsChanged()) {
+            this.carSpeedMultiplier = this.gameParameters.getCarSpeedMultiplier();
+            this.trainSpeedMultiplier = this.gameParameters.getTrainSpeedMultiplier();
+            this.logSpeedMultiplier = this.gameParameters.getLogSpeedMultiplier();
+            this.chunks.forEach(c -> c.rescheduleTimers(this.gameParameters));
+        }
     }
 
     /**
-     * Gets the Pickables currently present on the map.
-     * 
-     * @return a List of the Pickables currently present on the map.
+     * Checks if a speed multiplier changed since the timers of the Chunks were last scheduled.
+     *
+     * @return true if a speed multiplier changed.
      */
-    private List<Pickable> getPickablesOnMap() {
-        final List<Pickable> pickables = new LinkedList<>();
-        this.chunks.forEach(c -> pickables.addAll(c.getPickables()));
-        return pickables;
+    private boolean haveSpeedsChanged() {
+        return Double.compare(this.carSpeedMultiplier, this.gameParameters.getCarSpeedMultiplier()) != 0
+            || Double.compare(this.trainSpeedMultiplier, this.gameParameters.getTrainSpeedMultiplier()) != 0
+            || Double.compare(this.logSpeedMultiplier, this.gameParameters.getLogSpeedMultiplier()) != 0;
     }
 
     /**
      * Handles the map movement and creates new Chunks if necessary.
+     * The elements don't move: the scroll offset follows the player instead.
      */
     private void moveMap() {
-        //First move the Chunks
-        this.chunks.forEach(c -> c.increaseY(Y_MAP_MOVEMENT));
-        this.chunks.removeIf(c -> c.getPosition().y() >= Y_DISPOSE_CHUNK_MARK && c.getActivePowerUp().isEmpty());
-
-        //Then move the other elements.
-        this.chunks.forEach(c -> c.getPositionables().forEach(p -> p.increaseY(Y_MAP_MOVEMENT)));
+        this.scrollOffset += Y_MAP_MOVEMENT;
+        //Chunks may be added or disposed
+        this.backgroundVersion++;
+        this.grid.scroll((int) Y_MAP_MOVEMENT);
+        this.reachability.scroll((int) Y_MAP_MOVEMENT);
+
+        //The active PowerUps are kept by the registry, so the Chunks that leave the map are always disposed
+        while (!this.chunks.isEmpty() && this.toScreenY(this.chunks.getBottom().getPosition().y()) >= Y_DISPOSE_CHUNK_MARK) {
+            this.chunks.removeBottom().cancelTimers();
+        }
 
-        if (this.chunks.stream().anyMatch(c -> c.getPosition().y() == Y_CREATE_CHUNK_MARK)) {
+        if (this.toScreenY(this.chunks.getTop().getPosition().y()) == Y_CREATE_CHUNK_MARK) {
             this.generateChunk();
         }
     }
+
+    /**
+     * Converts a world y coordinate to the y coordinate on the screen.
+     *
+     * @param worldY the y coordinate in the world.
+     * @return the y coordinate relative to the top of the screen.
+     */
+    private double toScreenY(final double worldY) {
+        return worldY + this.scrollOffset;
+    }
+
+    /**
+     * Gets the position of the next Chunk to generate, right above the highest one.
+     *
+     * @return the world position of the next Chunk.
+     */
+    private Position getChunkStartPosition() {
+        return new Position(0, Y_UPPER_CHUNK - this.scrollOffset);
+    }
 }
@@ -0,0 +1,194 @@
+package it.unibo.crossyroad.model.impl.managers;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+
+import it.unibo.crossyroad.model.api.Position;
+import it.unibo.crossyroad.model.api.chunks.Chunk;
+import it.unibo.crossyroad.model.api.obstacles.CollisionType;
+import it.unibo.crossyroad.model.api.pickables.Pickable;
+
+/**
+ * Grid index of the cells occupied by solid obstacles and by pickables that are still on the map.
+ * The grid covers a window of rows in world coordinates, kept in a circular buffer:
+ * scrolling the window up costs a single row clear.
+ */
+public final class OccupancyGrid {
+    private static final int MAX_WIDTH = Integer.SIZE - 1;
+
+    private final int width;
+    private final int rows;
+    private final int[] solid;
+    private final Pickable[][] pickables;
+    private int topRow;
+
+    /**
+     * Creates an empty grid.
+     *
+     * @param width the number of columns of the map.
+     * @param topRow the y coordinate of the first row initially covered by the grid.
+     * @param rows the number of rows covered by the grid.
+     * @throws IllegalArgumentException if width or rows are not positive, or width is too large.
+     */
+    public OccupancyGrid(final int width, final int topRow, final int rows) {
+        if (width <= 0 || width > MAX_WIDTH) {
+            throw new IllegalArgumentException("Width must be between 1 and " + MAX_WIDTH);
+        }
+        if (rows <= 0) {
+            throw new IllegalArgumentException("Rows must be positive");
+        }
+        this.width = width;
+        this.rows = rows;
+        this.topRow = topRow;
+        this.solid = new int[rows];
+        this.pickables = new Pickable[rows][width];
+    }
+
+    /**
+     * Indexes the solid obstacles and the pickables not yet picked up of a chunk.
+     *
+     * @param chunk the chunk to index.
+     */
+    public void addChunk(final Chunk chunk) {
+        Objects.requireNonNull(chunk, "Chunk cannot be null");
+        chunk.getObstacles().stream()
+                            .filter(o -> o.getCollisionType() == CollisionType.SOLID)
+                            .forEach(o -> this.setSolid(o.getPosition()));
+        chunk.getPickables().stream()
+                            .filter(p -> !p.isPickedUp())
+                            .forEach(this::addPickable);
+    }
+
+    /**
+     * Clears every row covered by a chunk.
+     *
+     * @param chunk the chunk to remove.
+     */
+    public void removeChunk(final Chunk chunk) {
+        Objects.requireNonNull(chunk, "Chunk cannot be null");
+        final int first = (int) Math.floor(chunk.getPosition().y());
+        final int last = (int) Math.ceil(chunk.getPosition().y() + chunk.getDimension().height());
+        for (int y = first; y < last; y++) {
+            if (this.isInside(y)) {
+                this.clearRow(this.index(y));
+            }
+        }
+    }
+
+    /**
+     * Moves the window covered by the grid up by the given number of rows, dropping the rows that leave it at the bottom.
+     *
+     * @param delta the number of rows to scroll (>= 0).
+     * @throws IllegalArgumentException if delta is negative.
+     */
+    public void scroll(final int delta) {
+        if (delta < 0) {
+            throw new IllegalArgumentException("Delta must be positive");
+        }
+        for (int i = 0; i < Math.min(delta, this.rows); i++) {
+            this.topRow--;
+            this.clearRow(this.index(this.topRow));
+        }
+        this.topRow -= Math.max(0, delta - this.rows);
+    }
+
+    /**
+     * Tells whether a solid obstacle occupies the given position.
+     *
+     * @param position the position to check.
+     * @return true if the position is exactly a cell taken by a solid obstacle.
+     */
+    public boolean isBlocked(final Position position) {
+        Objects.requireNonNull(position, "Position cannot be null");
+        return isCell(position) && this.isBlocked((int) position.x(), (int) position.y());
+    }
+
+    /**
+     * Tells whether a solid obstacle occupies the given cell.
+     *
+     * @param x the column of the cell.
+     * @param y the row of the cell.
+     * @return true if the cell is taken by a solid obstacle, false otherwise or if it's outside the grid.
+     */
+    public boolean isBlocked(final int x, final int y) {
+        return this.isInside(x, y) && (this.solid[this.index(y)] & 1 << x) != 0;
+    }
+
+    /**
+     * Returns the solid cells of a row as a bitmask, where bit i is set if column i is blocked.
+     *
+     * @param y the row.
+     * @return the bitmask of the blocked columns, 0 if the row is outside the grid.
+     */
+    public int getSolidMask(final int y) {
+        return this.isInside(y) ? this.solid[this.index(y)] : 0;
+    }
+
+    /**
+     * Returns the pickable placed on a cell.
+     *
+     * @param x the column of the cell.
+     * @param y the row of the cell.
+     * @return the pickable on the cell, if any.
+     */
+    public Optional<Pickable> getPickable(final int x, final int y) {
+        return this.isInside(x, y) ? Optional.ofNullable(this.pickables[this.index(y)][x]) : Optional.empty();
+    }
+
+    /**
+     * Indexes a pickable by its position.
+     *
+     * @param pick the pickable to add.
+     */
+    public void addPickable(final Pickable pick) {
+        Objects.requireNonNull(pick, "Pickable cannot be null");
+        final Position position = pick.getPosition();
+        if (isCell(position) && this.isInside((int) position.x(), (int) position.y())) {
+            this.pickables[this.index((int) position.y())][(int) position.x()] = pick;
+        }
+    }
+
+    /**
+     * Removes a pickable from the grid, if it's indexed at its current position.
+     *
+     * @param pick the pickable to remove.
+     */
+    public void removePickable(final Pickable pick) {
+        Objects.requireNonNull(pick, "Pickable cannot be null");
+        final Position position = pick.getPosition();
+        if (isCell(position) && this.isInside((int) position.x(), (int) position.y())) {
+            final Pickable[] row = this.pickables[this.index((int) position.y())];
+            if (row[(int) position.x()] == pick) {
+                row[(int) position.x()] = null;
+            }
+        }
+    }
+
+    private void setSolid(final Position position) {
+        if (isCell(position) && this.isInside((int) position.x(), (int) position.y())) {
+            this.solid[this.index((int) position.y())] |= 1 << (int) position.x();
+        }
+    }
+
+    private void clearRow(final int index) {
+        this.solid[index] = 0;
+        Arrays.fill(this.pickables[index], null);
+    }
+
+    private boolean isInside(final int y) {
+        return y >= this.topRow && y < this.topRow + this.rows;
+    }
+
+    private boolean isInside(final int x, final int y) {
+        return x >= 0 && x < this.width && this.isInside(y);
+    }
+
+    private int index(final int y) {
+        return Math.floorMod(y, this.rows);
+    }
+
+    private static boolean isCell(final Position position) {
+        return position.x() == Math.rint(position.x()) && position.y() == Math.rint(position.y());
+    }
+}
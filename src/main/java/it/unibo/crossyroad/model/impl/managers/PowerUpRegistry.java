@@ -0,0 +1,148 @@
+package it.unibo.crossyroad.model.impl.managers;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.ObjLongConsumer;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import it.unibo.crossyroad.model.api.EntityType;
+import it.unibo.crossyroad.model.api.GameParameters;
+import it.unibo.crossyroad.model.api.TimingWheel;
+import it.unibo.crossyroad.model.api.pickables.PowerUp;
+
+/**
+ * The PowerUps in effect, at most one per type, each with a timer on the {@link TimingWheel} of the game
+ * that ends it when it runs out.
+ * They are kept apart from the Chunk they were picked up from, so that the Chunk can leave the map
+ * while they are still active, and every lookup is done directly from the type.
+ * A new game gets a new registry, on the new wheel of the game.
+ */
+public final class PowerUpRegistry {
+    private final Map<EntityType, PowerUp> active = new EnumMap<>(EntityType.class);
+    private final Map<EntityType, TimingWheel.Timer> expiries = new EnumMap<>(EntityType.class);
+    private final TimingWheel timers;
+    private final GameParameters gameParameters;
+    private final Consumer<EntityType> onExpired;
+
+    /**
+     * Creates an empty registry.
+     *
+     * @param timers the TimingWheel the PowerUps run out on.
+     * @param gameParameters the game parameters the PowerUps act on.
+     * @param onExpired called with the type of every PowerUp that runs out.
+     */
+    @SuppressFBWarnings(
+        value = "EI2",
+        justification = "The wheel and the game parameters are shared with the game on purpose"
+    )
+    public PowerUpRegistry(final TimingWheel timers, final GameParameters gameParameters,
+                           final Consumer<EntityType> onExpired) {
+        this.timers = Objects.requireNonNull(timers, "Timers cannot be null");
+        this.gameParameters = Objects.requireNonNull(gameParameters, "Game parameters cannot be null");
+        this.onExpired = Objects.requireNonNull(onExpired, "Expiry callback cannot be null");
+    }
+
+    /**
+     * Checks if a PowerUp of a type is in effect.
+     *
+     * @param type the type of the PowerUp.
+     * @return true if a PowerUp of that type is in effect.
+     */
+    public boolean isActive(final EntityType type) {
+        return this.active.containsKey(type);
+    }
+
+    /**
+     * Adds a PowerUp that was just picked up, running out after its remaining time.
+     *
+     * @param powerUp the PowerUp.
+     * @throws IllegalStateException if a PowerUp of the same type is already in effect.
+     */
+    public void activate(final PowerUp powerUp) {
+        Objects.requireNonNull(powerUp, "PowerUp cannot be null");
+        if (this.isActive(powerUp.getEntityType())) {
+            throw new IllegalStateException("A PowerUp of this type is already active");
+        }
+        this.active.put(powerUp.getEntityType(), powerUp);
+        this.scheduleExpiry(powerUp.getEntityType(), powerUp.getRemaining());
+    }
+
+    /**
+     * Postpones the end of the PowerUp of a type.
+     *
+     * @param type the type of the PowerUp.
+     * @param time the time to add, in milliseconds.
+     * @return the new remaining time, in milliseconds.
+     * @throws IllegalStateException if no PowerUp of that type is in effect.
+     */
+    public long extend(final EntityType type, final long time) {
+        final PowerUp powerUp = this.get(type);
+        powerUp.addTime(time);
+        final long remaining = this.getRemaining(type) + time;
+        this.expiries.get(type).cancel();
+        this.scheduleExpiry(type, remaining);
+        return remaining;
+    }
+
+    /**
+     * Returns the time left before the PowerUp of a type runs out.
+     *
+     * @param type the type of the PowerUp.
+     * @return the remaining time, in milliseconds.
+     * @throws IllegalStateException if no PowerUp of that type is in effect.
+     */
+    public long getRemaining(final EntityType type) {
+        this.get(type);
+        return this.remaining(this.expiries.get(type));
+    }
+
+    /**
+     * Performs an action on every PowerUp in effect, with its remaining time.
+     *
+     * @param action the action, taking the type of the PowerUp and its remaining time in milliseconds.
+     */
+    public void forEachActive(final ObjLongConsumer<EntityType> action) {
+        for (final Map.Entry<EntityType, TimingWheel.Timer> expiry : this.expiries.entrySet()) {
+            action.accept(expiry.getKey(), this.remaining(expiry.getValue()));
+        }
+    }
+
+    /**
+     * Returns the PowerUps in effect with their remaining time.
+     *
+     * @return a map from the type of every PowerUp in effect to its remaining time, in milliseconds.
+     */
+    public Map<EntityType, Long> toMap() {
+        final Map<EntityType, Long> remaining = new EnumMap<>(EntityType.class);
+        this.forEachActive(remaining::put);
+        return remaining;
+    }
+
+    private void scheduleExpiry(final EntityType type, final long delay) {
+        this.expiries.put(type, this.timers.schedule(delay, () -> this.expire(type)));
+    }
+
+    private void expire(final EntityType type) {
+        //The PowerUp is only told about the time when it runs out, all of it at once
+        final PowerUp powerUp = this.active.remove(type);
+        this.expiries.remove(type);
+        powerUp.update(powerUp.getRemaining(), this.gameParameters);
+        this.onExpired.accept(type);
+    }
+
+    private long remaining(final TimingWheel.Timer expiry) {
+        //A timer fires on the first tick after its deadline, so it can be a little overdue
+        return Math.max(0, expiry.getDeadline() - this.timers.now());
+    }
+
+    private PowerUp get(final EntityType type) {
+        final PowerUp powerUp = this.active.get(type);
+        if (powerUp == null) {
+            throw new IllegalStateException("No PowerUp of this type is active");
+        }
+        return powerUp;
+    }
+}
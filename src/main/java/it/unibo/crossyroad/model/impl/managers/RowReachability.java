@@ -0,0 +1,258 @@
+package it.unibo.crossyroad.model.impl.managers;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import it.unibo.crossyroad.model.api.Position;
+
+/**
+ * Computes the cells the player can walk to, encoding every row of the map as a bitmask
+ * (bit i set means column i is reachable) and flooding it from row to row with bitwise operations.
+ *
+ * <p>
+ * Only the rows between the ceiling, the top row of the highest Chunk, and the bottom of the map are considered:
+ * the empty rows above the ceiling can be reached if and only if the ceiling row can.
+ * The result is cached and reused until the player leaves the reachable area or the map changes,
+ * so that checking a new Chunk only propagates through its own rows.
+ * </p>
+ */
+public final class RowReachability {
+    private final OccupancyGrid grid;
+    private final int width;
+    private final int fullMask;
+    private final int[] reachable;
+    private int topRow;
+    private int bottomRow;
+    private int ceiling;
+    private int previousCeiling;
+    private boolean valid;
+    private boolean extensionExact;
+    private int playerX;
+    private int playerY;
+
+    /**
+     * Creates the reachability engine of a map.
+     *
+     * @param grid the grid of the solid obstacles.
+     * @param width the number of columns of the map.
+     * @param topRow the y coordinate of the highest row of the map, in world coordinates.
+     * @param bottomRow the y coordinate of the lowest row the player can walk on, in world coordinates.
+     * @throws IllegalArgumentException if bottomRow is above topRow.
+     */
+    public RowReachability(final OccupancyGrid grid, final int width, final int topRow, final int bottomRow) {
+        if (bottomRow < topRow) {
+            throw new IllegalArgumentException("Bottom row must not be above the top row");
+        }
+        this.grid = Objects.requireNonNull(grid, "Grid cannot be null");
+        this.width = width;
+        this.fullMask = (1 << width) - 1;
+        this.topRow = topRow;
+        this.bottomRow = bottomRow;
+        this.reachable = new int[bottomRow - topRow + 1];
+        this.ceiling = topRow;
+        this.previousCeiling = topRow;
+    }
+
+    /**
+     * Discards the cached result and sets the top row of the highest Chunk.
+     *
+     * @param newCeiling the top row of the highest Chunk.
+     */
+    public void reset(final int newCeiling) {
+        this.ceiling = this.clampRow(newCeiling);
+        this.previousCeiling = this.ceiling;
+        this.valid = false;
+    }
+
+    /**
+     * Follows the map when it scrolls up, keeping the cached result when no reachable cell leaves the bottom.
+     *
+     * @param delta the number of rows the map scrolled (>= 0).
+     * @throws IllegalArgumentException if delta is negative.
+     */
+    public void scroll(final int delta) {
+        if (delta < 0) {
+            throw new IllegalArgumentException("Delta must be positive");
+        }
+        for (int i = 0; i < delta; i++) {
+            if (this.reachable[this.reachable.length - 1] != 0) {
+                this.valid = false;
+            }
+            System.arraycopy(this.reachable, 0, this.reachable, 1, this.reachable.length - 1);
+            this.reachable[0] = 0;
+            this.topRow--;
+            this.bottomRow--;
+            this.ceiling = this.clampRow(this.ceiling);
+        }
+        this.previousCeiling = this.ceiling;
+    }
+
+    /**
+     * Tells whether the player can reach the top of the map.
+     *
+     * @param player the position of the player.
+     * @return true if at least one cell of the ceiling row is reachable.
+     */
+    public boolean isTopReachable(final Position player) {
+        this.ensure(player);
+        return this.row(this.ceiling) != 0;
+    }
+
+    /**
+     * Tells whether the player can walk to a cell. Every query made without changes to the map or
+     * leaving the reachable area answers from the same computation.
+     *
+     * @param cell the position of the cell.
+     * @param player the position of the player.
+     * @return true if the position is exactly a cell between the ceiling and the bottom of the map reachable by the player.
+     */
+    public boolean isReachable(final Position cell, final Position player) {
+        Objects.requireNonNull(cell, "Cell position cannot be null");
+        this.ensure(player);
+        if (cell.x() != Math.rint(cell.x()) || cell.y() != Math.rint(cell.y())) {
+            return false;
+        }
+        final int x = (int) cell.x();
+        final int y = (int) cell.y();
+        return x >= 0 && x < this.width && y >= this.ceiling && y <= this.bottomRow && (this.row(y) & 1 << x) != 0;
+    }
+
+    /**
+     * Moves the ceiling up to include a new Chunk, already added to the grid, and tells whether
+     * the top of the map is still reachable. Only the new rows are flooded, unless they open a way
+     * back to cells of the old ceiling that weren't reachable before.
+     *
+     * @param newCeiling the top row of the new Chunk.
+     * @param player the position of the player.
+     * @return true if at least one cell of the new ceiling row is reachable.
+     * @throws IllegalArgumentException if the new ceiling is not above the current one or outside the map.
+     */
+    public boolean extendTo(final int newCeiling, final Position player) {
+        if (newCeiling >= this.ceiling || newCeiling < this.topRow) {
+            throw new IllegalArgumentException("The new ceiling must be above the current one and inside the map");
+        }
+        this.ensure(player);
+        final int oldCeiling = this.ceiling;
+        final int frontier = this.row(oldCeiling);
+
+        this.previousCeiling = oldCeiling;
+        this.ceiling = newCeiling;
+        this.propagate(newCeiling, oldCeiling);
+        this.extensionExact = this.row(oldCeiling) == frontier;
+        if (!this.extensionExact) {
+            this.compute();
+        }
+        return this.row(this.ceiling) != 0;
+    }
+
+    /**
+     * Undoes the last {@link #extendTo(int, Position)}, after its Chunk has been removed from the grid.
+     */
+    public void retract() {
+        for (int y = this.ceiling; y < this.previousCeiling; y++) {
+            this.reachable[y - this.topRow] = 0;
+        }
+        this.ceiling = this.previousCeiling;
+        if (!this.extensionExact) {
+            this.valid = false;
+        }
+    }
+
+    /**
+     * Makes sure the cached result is up to date for the given player position.
+     *
+     * @param player the position of the player.
+     */
+    private void ensure(final Position player) {
+        Objects.requireNonNull(player, "Player position cannot be null");
+        final int x = (int) Math.max(0, Math.min(this.width - 1, Math.round(player.x())));
+        final int y = (int) Math.round(player.y());
+        if (!this.valid || x != this.playerX || y != this.playerY) {
+            if (this.valid && y >= this.ceiling && y <= this.bottomRow && (this.row(y) & 1 << x) != 0) {
+                //The player moved inside the area already known to be reachable
+                this.playerX = x;
+                this.playerY = y;
+                return;
+            }
+            this.playerX = x;
+            this.playerY = y;
+            this.compute();
+        }
+    }
+
+    /**
+     * Computes from scratch the reachable cells between the ceiling and the bottom of the map.
+     */
+    private void compute() {
+        Arrays.fill(this.reachable, 0);
+        this.valid = true;
+        if (this.playerY >= this.ceiling && this.playerY <= this.bottomRow) {
+            final int free = this.free(this.playerY);
+            this.reachable[this.playerY - this.topRow] = this.fill(1 << this.playerX & free, free);
+            this.propagate(this.ceiling, this.bottomRow);
+        }
+    }
+
+    /**
+     * Floods the reachable cells up and down between two rows until nothing changes.
+     *
+     * @param from the highest row.
+     * @param to the lowest row.
+     */
+    private void propagate(final int from, final int to) {
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int y = to - 1; y >= from; y--) {
+                changed |= this.spread(y, y + 1);
+            }
+            for (int y = from + 1; y <= to; y++) {
+                changed |= this.spread(y, y - 1);
+            }
+        }
+    }
+
+    /**
+     * Transfers the reachable cells of a row to an adjacent one.
+     *
+     * @param y the row to update.
+     * @param source the adjacent row.
+     * @return true if the row changed.
+     */
+    private boolean spread(final int y, final int source) {
+        final int free = this.free(y);
+        final int current = this.row(y);
+        final int next = this.fill((this.row(source) & free) | current, free);
+        this.reachable[y - this.topRow] = next;
+        return next != current;
+    }
+
+    /**
+     * Expands a set of cells horizontally inside the free cells of their row.
+     *
+     * @param seed the cells to expand.
+     * @param free the free cells of the row.
+     * @return the cells reachable from the seed moving left and right.
+     */
+    private int fill(final int seed, final int free) {
+        int current = seed;
+        int next = (current | current << 1 | current >>> 1) & free;
+        while (next != current) {
+            current = next;
+            next = (current | current << 1 | current >>> 1) & free;
+        }
+        return current;
+    }
+
+    private int free(final int y) {
+        return ~this.grid.getSolidMask(y) & this.fullMask;
+    }
+
+    private int row(final int y) {
+        return this.reachable[y - this.topRow];
+    }
+
+    private int clampRow(final int y) {
+        return Math.max(this.topRow, Math.min(this.bottomRow, y));
+    }
+}
@@ -0,0 +1,113 @@
+package it.unibo.crossyroad.view.impl;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Index of a sprite atlas, telling where each sprite is in the atlas image.
+ * It's written by the build, one line per sprite in the form {@code folder/file.png=x,y,width,height},
+ * where the path is the one of the sprite in the resources. Blank lines and lines starting with
+ * {@code #} are ignored.
+ */
+public final class AtlasIndex {
+    private static final String COMMENT = "#";
+    private static final String SEPARATOR = "=";
+    private static final String VALUE_SEPARATOR = ",";
+    private static final int VALUES = 4;
+
+    private final Map<String, Region> regions;
+
+    /**
+     * The rectangle a sprite takes in the atlas image, in pixels.
+     *
+     * @param x the left edge.
+     * @param y the top edge.
+     * @param width the width.
+     * @param height the height.
+     */
+    public record Region(int x, int y, int width, int height) {
+        /**
+         * Creates a region.
+         *
+         * @param x the left edge.
+         * @param y the top edge.
+         * @param width the width.
+         * @param height the height.
+         * @throws IllegalArgumentException if the region is outside the atlas or empty.
+         */
+        public Region {
+            if (x < 0 || y < 0 || width <= 0 || height <= 0) {
+                throw new IllegalArgumentException("Invalid atlas region");
+            }
+        }
+    }
+
+    private AtlasIndex(final Map<String, Region> entries) {
+        this.regions = entries;
+    }
+
+    /**
+     * Reads an index from its lines.
+     *
+     * @param lines the lines of the index.
+     * @return the index.
+     * @throws IllegalArgumentException if a line is malformed or a sprite is listed twice.
+     */
+    public static AtlasIndex parse(final List<String> lines) {
+        Objects.requireNonNull(lines, "Lines cannot be null");
+        final Map<String, Region> regions = new HashMap<>();
+        for (final String line : lines) {
+            final String entry = line.strip();
+            if (entry.isEmpty() || entry.startsWith(COMMENT)) {
+                continue;
+            }
+            final int separator = entry.lastIndexOf(SEPARATOR);
+            final String[] values = entry.substring(separator + 1).split(VALUE_SEPARATOR);
+            if (separator <= 0 || values.length != VALUES) {
+                throw new IllegalArgumentException("Malformed atlas entry: " + entry);
+            }
+            final int[] bounds = new int[VALUES];
+            try {
+                for (int i = 0; i < VALUES; i++) {
+                    bounds[i] = Integer.parseInt(values[i].strip());
+                }
+            } catch (final NumberFormatException e) {
+                throw new IllegalArgumentException("Malformed atlas entry: " + entry, e);
+            }
+            final Region region = new Region(bounds[0], bounds[1], bounds[2], bounds[VALUES - 1]);
+            if (regions.put(normalize(entry.substring(0, separator)), region) != null) {
+                throw new IllegalArgumentException("Sprite listed twice: " + entry);
+            }
+        }
+        return new AtlasIndex(Map.copyOf(regions));
+    }
+
+    /**
+     * Looks up the region of a sprite. The path can start with a slash and use backslashes, as the resource
+     * paths of the skins do.
+     *
+     * @param path the path of the sprite in the resources.
+     * @return the region of the sprite, or an empty Optional if the atlas doesn't have it.
+     */
+    public Optional<Region> find(final String path) {
+        Objects.requireNonNull(path, "Path cannot be null");
+        return Optional.ofNullable(this.regions.get(normalize(path)));
+    }
+
+    /**
+     * Returns the number of sprites in the atlas.
+     *
+     * @return the number of sprites.
+     */
+    public int size() {
+        return this.regions.size();
+    }
+
+    private static String normalize(final String path) {
+        final String slashes = path.strip().replace('\\', '/');
+        return slashes.startsWith("/") ? slashes.substring(1) : slashes;
+    }
+}
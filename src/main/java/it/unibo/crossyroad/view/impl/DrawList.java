@@ -0,0 +1,94 @@
+package it.unibo.crossyroad.view.impl;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import it.unibo.crossyroad.model.api.EntityType;
+import it.unibo.crossyroad.model.api.Frame;
+
+/**
+ * Sorts the elements of a {@link Frame} into layers, drawn from the first to the last, so that each element
+ * is drawn over the ones of the layers before. The layer of every {@link EntityType} is looked up in a table
+ * built from the given layer order, so a frame is sorted in a single pass whatever the number of layers,
+ * and types that aren't in any layer are not drawn. The buckets are reused from one frame to the next.
+ */
+public final class DrawList {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int NOT_DRAWN = -1;
+
+    private final int[] layerOf = new int[EntityType.values().length];
+    private final int[][] buckets;
+    private final int[] sizes;
+
+    /**
+     * Creates a draw list with the given layers.
+     *
+     * @param layers the types of each layer, from the bottom one to the top one.
+     * @throws IllegalArgumentException if a type is in more than one layer.
+     */
+    public DrawList(final List<Set<EntityType>> layers) {
+        Objects.requireNonNull(layers, "Layers cannot be null");
+        Arrays.fill(this.layerOf, NOT_DRAWN);
+        for (int layer = 0; layer < layers.size(); layer++) {
+            for (final EntityType type : layers.get(layer)) {
+                if (this.layerOf[type.ordinal()] != NOT_DRAWN) {
+                    throw new IllegalArgumentException(type + " is in more than one layer");
+                }
+                this.layerOf[type.ordinal()] = layer;
+            }
+        }
+        this.buckets = new int[layers.size()][INITIAL_CAPACITY];
+        this.sizes = new int[layers.size()];
+    }
+
+    /**
+     * Sorts the elements of a frame into the layers, replacing the ones of the previous frame.
+     *
+     * @param frame the frame.
+     */
+    public void build(final Frame frame) {
+        Arrays.fill(this.sizes, 0);
+        for (int i = 0; i < frame.size(); i++) {
+            final int layer = this.layerOf[frame.getType(i).ordinal()];
+            if (layer != NOT_DRAWN) {
+                if (this.sizes[layer] == this.buckets[layer].length) {
+                    this.buckets[layer] = Arrays.copyOf(this.buckets[layer], this.sizes[layer] * 2);
+                }
+                this.buckets[layer][this.sizes[layer]] = i;
+                this.sizes[layer]++;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of layers.
+     *
+     * @return the number of layers.
+     */
+    public int getLayerCount() {
+        return this.sizes.length;
+    }
+
+    /**
+     * Returns the number of elements in a layer.
+     *
+     * @param layer the layer.
+     * @return the number of elements.
+     */
+    public int size(final int layer) {
+        return this.sizes[layer];
+    }
+
+    /**
+     * Returns an element of a layer, in the order of the frame.
+     *
+     * @param layer the layer.
+     * @param position the position of the element in the layer.
+     * @return the index of the element in the frame.
+     */
+    public int get(final int layer, final int position) {
+        return this.buckets[layer][position];
+    }
+}
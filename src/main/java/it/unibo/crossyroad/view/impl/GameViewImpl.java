@@ -1,15 +1,22 @@
 package it.unibo.crossyroad.view.impl;
 
+import java.util.Arrays;
 import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import it.unibo.crossyroad.controller.api.GameController;
 import it.unibo.crossyroad.model.api.EntityType;
-import it.unibo.crossyroad.model.api.Positionable;
+import it.unibo.crossyroad.model.api.Frame;
+import it.unibo.crossyroad.model.api.FrameBuffer;
+import it.unibo.crossyroad.model.api.GameEvent;
+import it.unibo.crossyroad.model.api.GameEventRing;
 import it.unibo.crossyroad.view.api.GameView;
 import it.unibo.crossyroad.view.api.UserInput;
+import javafx.animation.AnimationTimer;
 import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -31,7 +38,7 @@ import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 
 /**
- * Implementation of the GameView interface.
+ * Implementation of the GameView interface, which draws the frames published by the game loop.
  * 
  * @see GameView
  *
@@ -50,18 +57,49 @@ public final class GameViewImpl implements GameView {
     private static final double BORDER_WIDTH_RATIO = 0.002;
     private static final double MIN_SCREEN_WIDTH = 720.0;
     private static final Color DEFAULT_COLOR_LABEL = Color.WHITE;
+    private static final int NOT_SHOWN = -1;
+    private static final int MILLIS_PER_SECOND = 1000;
     private static final String CHUNKS_FOLDER = "chunks";
     private static final String OBSTACLES_FOLDER = "obstacles";
     private static final String PICKABLES_FOLDER = "pickables";
     private static final String SKINS_FOLDER = "skins";
+    private static final List<Set<EntityType>> BACKGROUND_LAYERS = List.of(
+        EnumSet.of(EntityType.GRASS, EntityType.ROAD, EntityType.RIVER, EntityType.RAILWAY),
+        EnumSet.of(EntityType.WATER, EntityType.TREE, EntityType.ROCK)
+    );
+    private static final List<Set<EntityType>> FOREGROUND_LAYERS = List.of(
+        EnumSet.of(EntityType.COIN),
+        EnumSet.of(EntityType.COIN_MULTIPLIER, EntityType.SLOW_CARS, EntityType.INVINCIBILITY),
+        EnumSet.of(EntityType.WOOD_LOG, EntityType.CAR_LEFT, EntityType.CAR_RIGHT,
+                   EntityType.TRAIN_LEFT, EntityType.TRAIN_RIGHT),
+        EnumSet.of(EntityType.PLAYER)
+    );
     private final StackPane currentPane;
     private final VBox powerUpBox;
     private final StackPane overlay;
     private final Label coinLabel;
     private final Label scoreLabel;
+    private final Map<EntityType, Label> powerUpLabels = new EnumMap<>(EntityType.class);
+    private final int[] shownSeconds = new int[EntityType.values().length];
+    private int shownCoins = NOT_SHOWN;
+    private int shownScore = NOT_SHOWN;
     private final Canvas canvas;
     private final GraphicsContext content;
-    private final Map<EntityType, Image> images = new EnumMap<>(EntityType.class);
+    private final Canvas backgroundCanvas;
+    private final GraphicsContext backgroundContent;
+    private final Map<EntityType, String> sources = new EnumMap<>(EntityType.class);
+    private final SpriteAtlas atlas = SpriteAtlas.getInstance();
+    private final SpriteCache<Image> sprites = new SpriteCache<>(this::loadSprite);
+    private final AnimationTimer renderer = new Renderer();
+    private final DrawList background = new DrawList(BACKGROUND_LAYERS);
+    private final DrawList foreground = new DrawList(FOREGROUND_LAYERS);
+    private final GameEventRing.Listener hud = this::onGameEvent;
+    private FrameBuffer frames;
+    private GameEventRing.Cursor events;
+    private long droppedEvents;
+    private boolean backgroundDirty = true;
+    private long backgroundVersion;
+    private double backgroundScrollOffset;
     private GameController gameController;
     private double scale = 1.0;
     private double responsivePadding;
@@ -81,6 +119,8 @@ public final class GameViewImpl implements GameView {
         this.currentPane = new StackPane();
         this.canvas = new Canvas();
         this.content = this.canvas.getGraphicsContext2D();
+        this.backgroundCanvas = new Canvas();
+        this.backgroundContent = this.backgroundCanvas.getGraphicsContext2D();
         this.powerUpBox = new VBox();
         this.coinLabel = new Label();
         this.scoreLabel = new Label();
@@ -107,14 +147,29 @@ public final class GameViewImpl implements GameView {
         this.scoreLabel.setText("0");
         this.scoreLabel.setTextFill(DEFAULT_COLOR_LABEL);
 
-        //power up box sizes
+        //power up box sizes, with a label for every power up, hidden while it's not active
         this.powerUpBox.setSpacing(10);
+        this.powerUpBox.setVisible(false);
+        Arrays.fill(this.shownSeconds, NOT_SHOWN);
+        for (final EntityType type : EntityType.values()) {
+            if (type.isPowerup()) {
+                final Label label = new Label();
+                label.setWrapText(true);
+                label.setTextFill(DEFAULT_COLOR_LABEL);
+                label.managedProperty().bind(label.visibleProperty());
+                label.setVisible(false);
+                this.powerUpLabels.put(type, label);
+                this.powerUpBox.getChildren().add(label);
+            }
+        }
 
         //Bind canvas too root size
         this.canvas.widthProperty().bind(root.widthProperty());
         this.canvas.heightProperty().bind(root.heightProperty());
         this.canvas.widthProperty().addListener(c -> scale());
         this.canvas.heightProperty().addListener(c -> scale());
+        this.backgroundCanvas.widthProperty().bind(root.widthProperty());
+        this.backgroundCanvas.heightProperty().bind(root.heightProperty());
 
         //Manage key press
         this.currentPane.setOnKeyPressed(e -> {
@@ -156,7 +211,8 @@ public final class GameViewImpl implements GameView {
         this.overlay.getChildren().addAll(scoreLayer, leftBox);
 
         this.content.setImageSmoothing(false);
-        this.currentPane.getChildren().addAll(this.canvas, this.overlay);
+        this.backgroundContent.setImageSmoothing(false);
+        this.currentPane.getChildren().addAll(this.backgroundCanvas, this.canvas, this.overlay);
         StackPane.setAlignment(this.overlay, Pos.TOP_LEFT);
         root.getChildren().add(this.currentPane);
 
@@ -170,73 +226,145 @@ public final class GameViewImpl implements GameView {
     public void setController(final GameController c) {
         Objects.requireNonNull(c, "The Game Controller cannot be null");
         this.gameController = c;
+        this.frames = c.getFrameBuffer();
+        this.events = c.getEvents().subscribe();
+        this.droppedEvents = 0;
         this.loadImages();
     }
 
     /**
-     * {@inheritDoc}
+     * Draws the newest frame of the frame buffer, interpolating the positions between the last two updates.
+     * The elements that never move are on the background canvas, which is drawn again only when the map scrolls,
+     * changes or is resized. The power up labels are updated if the frame wasn't drawn yet. The coin count and
+     * the score follow the events of the game; if some were lost because the view fell behind, they are taken
+     * from the frame instead.
+     *
+     * @param now the time of the pulse, on the {@link System#nanoTime()} scale.
      */
-    @Override
-    public void render(final List<Positionable> positionables) {
-        Objects.requireNonNull(positionables, "The list of Positionable elements cannot be null");
+    private void drawFrame(final long now) {
+        if (this.frames == null) {
+            return;
+        }
+        final boolean isNew = this.frames.refresh();
+        final Frame frame = this.frames.getFrontFrame();
+        final double alpha = frame.alphaAt(now);
+        final double scrollOffset = frame.getScrollOffset(alpha);
+        if (isNew) {
+            this.background.build(frame);
+            this.foreground.build(frame);
+        }
 
-        Platform.runLater(() -> {
-            this.content.clearRect(0, 0, this.canvas.getWidth(), this.canvas.getHeight());
-
-            positionables.stream()
-                         .filter(p -> p.getEntityType().isChunk())
-                         .forEach(this::drawElement);
-            positionables.stream()
-                         .filter(p -> p.getEntityType() == EntityType.COIN)
-                         .forEach(this::drawElement);
-            positionables.stream()
-                         .filter(p -> p.getEntityType().isPowerup())
-                         .forEach(this::drawElement);
-            positionables.stream()
-                         .filter(p -> p.getEntityType().isObstacle())
-                         .forEach(this::drawElement);
-            positionables.stream()
-                         .filter(p -> p.getEntityType() == EntityType.PLAYER)
-                         .forEach(this::drawElement);
-        });
+        if (this.backgroundDirty || frame.getBackgroundVersion() != this.backgroundVersion
+            || scrollOffset != this.backgroundScrollOffset) {
+            this.backgroundContent.clearRect(0, 0, this.backgroundCanvas.getWidth(), this.backgroundCanvas.getHeight());
+            this.drawLayers(this.backgroundContent, this.background, frame, alpha, scrollOffset);
+            this.backgroundDirty = false;
+            this.backgroundVersion = frame.getBackgroundVersion();
+            this.backgroundScrollOffset = scrollOffset;
+        }
+        this.content.clearRect(0, 0, this.canvas.getWidth(), this.canvas.getHeight());
+        this.drawLayers(this.content, this.foreground, frame, alpha, scrollOffset);
+
+        if (isNew) {
+            this.updatePowerUpTime(frame);
+        }
+        this.events.poll(this.hud);
+        if (this.events.getDropped() != this.droppedEvents) {
+            this.droppedEvents = this.events.getDropped();
+            this.updateCoinCount(frame.getCoins());
+            this.updateScore(frame.getScore());
+        }
     }
 
     /**
-     * {@inheritDoc}
+     * Updates the counters of the HUD changed by an event of the game, so that they aren't read at every frame.
+     *
+     * @param event what happened.
+     * @param type the type of the element it happened to.
+     * @param value the value of the event.
      */
-    @Override
-    public void updatePowerUpTime(final Map<EntityType, Long> powerUps) {
-        Objects.requireNonNull(powerUps, "The map of power up cannot be null");
+    private void onGameEvent(final GameEvent event, final EntityType type, final long value) {
+        switch (event) {
+            case GAME_RESET -> {
+                this.updateCoinCount((int) value);
+                this.updateScore(0);
+            }
+            case COIN_PICKED -> this.updateCoinCount((int) value);
+            case SCORE_INCREMENTED -> this.updateScore((int) value);
+            default -> {
+                //The other events don't change the counters
+            }
+        }
+    }
 
-        Platform.runLater(() -> {
-            if (powerUps.isEmpty()) {
-                powerUpBox.setVisible(false);
-                return;
+    /**
+     * Draws the layers of a draw list, from the bottom one to the top one.
+     *
+     * @param target where to draw.
+     * @param layers the elements of the frame sorted into layers.
+     * @param frame the frame.
+     * @param alpha how far between the last two updates the elements are drawn.
+     * @param scrollOffset the vertical offset between the world and the screen.
+     */
+    private void drawLayers(final GraphicsContext target, final DrawList layers, final Frame frame, final double alpha,
+                            final double scrollOffset) {
+        for (int layer = 0; layer < layers.getLayerCount(); layer++) {
+            for (int i = 0; i < layers.size(layer); i++) {
+                this.drawElement(target, frame, layers.get(layer, i), alpha, scrollOffset);
             }
-            powerUpBox.setVisible(true);
-            powerUpBox.getChildren().clear();
-            for (final Map.Entry<EntityType, Long> entry: powerUps.entrySet()) {
-                final int duration = (int) (entry.getValue() / 1000);
-
-                //Create the label for every active power up
-                final Label label = new Label(formatPowerUpText(entry.getKey(), duration));
-                label.setMaxWidth(this.overlayWidth);
-                label.setWrapText(true);
-                label.setFont(Font.font(null, FontWeight.BOLD, this.responsiveFontSize));
-                label.setTextFill(DEFAULT_COLOR_LABEL);
-                label.setBorder(new Border(
-                        new BorderStroke(
-                                Color.WHITE, BorderStrokeStyle.SOLID,
-                                new CornerRadii(this.responsiveCornerRadius),
-                                new BorderWidths(this.responsiveBorderWidth)
-                        )
-                ));
-                label.setPadding(new Insets(this.canvas.getHeight() * LABEL_PADDING_RATIO));
-                label.setBackground(labelBackground(entry.getKey()));
-
-                powerUpBox.getChildren().add(label);
+        }
+    }
+
+    /**
+     * Updates the power-up time display, changing only the labels whose seconds changed.
+     *
+     * @param frame the frame holding the remaining time of the active power ups.
+     */
+    private void updatePowerUpTime(final Frame frame) {
+        boolean changed = false;
+        boolean anyActive = false;
+        for (final Map.Entry<EntityType, Label> entry : this.powerUpLabels.entrySet()) {
+            final EntityType type = entry.getKey();
+            final int seconds = frame.isPowerUpActive(type)
+                ? (int) (frame.getPowerUpRemaining(type) / MILLIS_PER_SECOND)
+                : NOT_SHOWN;
+            anyActive = anyActive || seconds != NOT_SHOWN;
+            if (seconds != this.shownSeconds[type.ordinal()]) {
+                final Label label = entry.getValue();
+                if (seconds != NOT_SHOWN) {
+                    label.setText(formatPowerUpText(type, seconds));
+                }
+                label.setVisible(seconds != NOT_SHOWN);
+                this.shownSeconds[type.ordinal()] = seconds;
+                changed = true;
             }
-        });
+        }
+        if (changed) {
+            this.powerUpBox.setVisible(anyActive);
+        }
+    }
+
+    /**
+     * Applies the current responsive sizes to the power-up labels.
+     */
+    private void stylePowerUpLabels() {
+        final Font font = Font.font(null, FontWeight.BOLD, this.responsiveFontSize);
+        final Border border = new Border(
+            new BorderStroke(
+                Color.WHITE, BorderStrokeStyle.SOLID,
+                new CornerRadii(this.responsiveCornerRadius),
+                new BorderWidths(this.responsiveBorderWidth)
+            )
+        );
+        final Insets padding = new Insets(this.canvas.getHeight() * LABEL_PADDING_RATIO);
+        for (final Map.Entry<EntityType, Label> entry : this.powerUpLabels.entrySet()) {
+            final Label label = entry.getValue();
+            label.setMaxWidth(this.overlayWidth);
+            label.setFont(font);
+            label.setBorder(border);
+            label.setPadding(padding);
+            label.setBackground(labelBackground(entry.getKey()));
+        }
     }
 
     /**
@@ -258,19 +386,27 @@ public final class GameViewImpl implements GameView {
     }
 
     /**
-     * {@inheritDoc}
+     * Updates the coin count display, if the count changed.
+     *
+     * @param count the current coin count.
      */
-    @Override
-    public void updateCoinCount(final int count) {
-        Platform.runLater(() -> this.coinLabel.setText("COINS : " + count));
+    private void updateCoinCount(final int count) {
+        if (count != this.shownCoins) {
+            this.coinLabel.setText("COINS : " + count);
+            this.shownCoins = count;
+        }
     }
 
     /**
-     * {@inheritDoc}
+     * Updates the score display, if the score changed.
+     *
+     * @param score the current score.
      */
-    @Override
-    public void updateScore(final int score) {
-        Platform.runLater(() -> this.scoreLabel.setText(String.valueOf(score)));
+    private void updateScore(final int score) {
+        if (score != this.shownScore) {
+            this.scoreLabel.setText(String.valueOf(score));
+            this.shownScore = score;
+        }
     }
 
     /**
@@ -281,6 +417,7 @@ public final class GameViewImpl implements GameView {
         Platform.runLater(() -> {
             this.currentPane.setVisible(true);
             this.loadImages();
+            this.renderer.start();
         });
     }
 
@@ -289,7 +426,10 @@ public final class GameViewImpl implements GameView {
      */
     @Override
     public void hide() {
-        Platform.runLater(() -> this.currentPane.setVisible(false));
+        Platform.runLater(() -> {
+            this.currentPane.setVisible(false);
+            this.renderer.stop();
+        });
     }
 
     /**
@@ -300,6 +440,8 @@ public final class GameViewImpl implements GameView {
         final double scaleX = this.canvas.getWidth() / GAME_WIDTH;
         final double scaleY = this.canvas.getHeight() / GAME_HEIGHT;
         this.scale = Math.min(scaleX, scaleY);
+        this.sprites.clear();
+        this.backgroundDirty = true;
 
         //labels and boxes scales
         this.responsivePadding = this.canvas.getHeight() * OVERLAY_PADDING_RATIO;
@@ -328,58 +470,83 @@ public final class GameViewImpl implements GameView {
                 new BackgroundFill(Color.GOLDENROD, new CornerRadii(this.responsiveCornerRadius), Insets.EMPTY)
             ));
             this.scoreLabel.setFont(Font.font(null, FontWeight.BOLD, this.responsiveFontScore));
+            this.stylePowerUpLabels();
         });
     }
 
     /**
      * Draws the given element on the map.
      * 
-     * @param pos the element to place on the map.
+     * @param target where to draw.
+     * @param frame the frame holding the element.
+     * @param index the index of the element in the frame.
+     * @param alpha how far between the last two updates the element is drawn.
+     * @param scrollOffset the vertical offset between the world and the screen.
      */
-    private void drawElement(final Positionable pos) {
-        final Image image = this.images.get(pos.getEntityType());
-
-        if (image != null) {
-            final double x = Math.round(pos.getPosition().x() * this.scale);
-            final double y = Math.round(pos.getPosition().y() * this.scale);
-            final double width = Math.round(pos.getDimension().width() * this.scale);
-            final double height = Math.round(pos.getDimension().height() * this.scale);
-            this.content.drawImage(image, x, y, width, height);
+    private void drawElement(final GraphicsContext target, final Frame frame, final int index, final double alpha,
+                             final double scrollOffset) {
+        final int width = (int) Math.round(frame.getWidth(index) * this.scale);
+        final int height = (int) Math.round(frame.getHeight(index) * this.scale);
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        final Image sprite = this.sprites.get(frame.getType(index), width, height);
+
+        if (sprite != null) {
+            final double x = Math.round(frame.getX(index, alpha) * this.scale);
+            final double y = Math.round((frame.getY(index, alpha) + scrollOffset) * this.scale);
+            target.drawImage(sprite, x, y);
         }
     }
 
     /**
-     * Load the images for the various elements.
+     * Load the paths of the images for the various elements in the atlas, and empties the sprite cache since the skin
+     * may have changed.
      */
     private void loadImages() {
-        this.images.put(EntityType.PLAYER, getImage(SKINS_FOLDER, this.gameController.getActiveSkin()));
-        this.images.put(EntityType.GRASS, getImage(CHUNKS_FOLDER, "grass.png"));
-        this.images.put(EntityType.ROAD, getImage(CHUNKS_FOLDER, "road.png"));
-        this.images.put(EntityType.RIVER, getImage(CHUNKS_FOLDER, "river.png"));
-        this.images.put(EntityType.RAILWAY, getImage(CHUNKS_FOLDER, "railway.png"));
-        this.images.put(EntityType.CAR_LEFT, getImage(OBSTACLES_FOLDER, "car_left.png"));
-        this.images.put(EntityType.CAR_RIGHT, getImage(OBSTACLES_FOLDER, "car_right.png"));
-        this.images.put(EntityType.WOOD_LOG, getImage(OBSTACLES_FOLDER, "log.png"));
-        this.images.put(EntityType.ROCK, getImage(OBSTACLES_FOLDER, "rock.png"));
-        this.images.put(EntityType.TREE, getImage(OBSTACLES_FOLDER, "tree.png"));
-        this.images.put(EntityType.TRAIN_LEFT, getImage(OBSTACLES_FOLDER, "train_left.png"));
-        this.images.put(EntityType.TRAIN_RIGHT, getImage(OBSTACLES_FOLDER, "train_right.png"));
-        this.images.put(EntityType.WATER, getImage(OBSTACLES_FOLDER, "water.png"));
-        this.images.put(EntityType.COIN, getImage(PICKABLES_FOLDER, "coin.png"));
-        this.images.put(EntityType.COIN_MULTIPLIER, getImage(PICKABLES_FOLDER, "multiplier.png"));
-        this.images.put(EntityType.INVINCIBILITY, getImage(PICKABLES_FOLDER, "invincible.png"));
-        this.images.put(EntityType.SLOW_CARS, getImage(PICKABLES_FOLDER, "slow.png"));
+        this.sources.put(EntityType.PLAYER, getPath(SKINS_FOLDER, this.gameController.getActiveSkin()));
+        this.sources.put(EntityType.GRASS, getPath(CHUNKS_FOLDER, "grass.png"));
+        this.sources.put(EntityType.ROAD, getPath(CHUNKS_FOLDER, "road.png"));
+        this.sources.put(EntityType.RIVER, getPath(CHUNKS_FOLDER, "river.png"));
+        this.sources.put(EntityType.RAILWAY, getPath(CHUNKS_FOLDER, "railway.png"));
+        this.sources.put(EntityType.CAR_LEFT, getPath(OBSTACLES_FOLDER, "car_left.png"));
+        this.sources.put(EntityType.CAR_RIGHT, getPath(OBSTACLES_FOLDER, "car_right.png"));
+        this.sources.put(EntityType.WOOD_LOG, getPath(OBSTACLES_FOLDER, "log.png"));
+        this.sources.put(EntityType.ROCK, getPath(OBSTACLES_FOLDER, "rock.png"));
+        this.sources.put(EntityType.TREE, getPath(OBSTACLES_FOLDER, "tree.png"));
+        this.sources.put(EntityType.TRAIN_LEFT, getPath(OBSTACLES_FOLDER, "train_left.png"));
+        this.sources.put(EntityType.TRAIN_RIGHT, getPath(OBSTACLES_FOLDER, "train_right.png"));
+        this.sources.put(EntityType.WATER, getPath(OBSTACLES_FOLDER, "water.png"));
+        this.sources.put(EntityType.COIN, getPath(PICKABLES_FOLDER, "coin.png"));
+        this.sources.put(EntityType.COIN_MULTIPLIER, getPath(PICKABLES_FOLDER, "multiplier.png"));
+        this.sources.put(EntityType.INVINCIBILITY, getPath(PICKABLES_FOLDER, "invincible.png"));
+        this.sources.put(EntityType.SLOW_CARS, getPath(PICKABLES_FOLDER, "slow.png"));
+        this.sprites.clear();
     }
 
     /**
-     * Retrieves an Image given it's path.
+     * Builds the path of an image.
      * 
      * @param folder folder the image is in.
      * @param file image file.
-     * @return the respective Image.
+     * @return the path of the image.
+     */
+    private String getPath(final String folder, final String file) {
+        return folder + "/" + file;
+    }
+
+    /**
+     * Copies the image of an element out of the atlas, already scaled to the size it's drawn at, without smoothing,
+     * so that it can be drawn without scaling.
+     * 
+     * @param type the type of the element.
+     * @param width the width, in pixels.
+     * @param height the height, in pixels.
+     * @return the scaled Image, or null if the type has no image.
      */
-    private Image getImage(final String folder, final String file) {
-        return new Image(folder + "/" + file);
+    private Image loadSprite(final EntityType type, final int width, final int height) {
+        final String source = this.sources.get(type);
+        return source == null ? null : this.atlas.getSprite(source, width, height);
     }
 
     /**
@@ -392,4 +559,15 @@ public final class GameViewImpl implements GameView {
     private String formatPowerUpText(final EntityType type, final int secondsLeft) {
         return type.getDisplayName() + ": " + (secondsLeft + 1) + "s";
     }
+
+    /**
+     * Draws the newest frame at every pulse of the display.
+     */
+    private final class Renderer extends AnimationTimer {
+
+        @Override
+        public void handle(final long now) {
+            drawFrame(now);
+        }
+    }
 }
@@ -5,6 +5,7 @@ import it.unibo.crossyroad.view.api.MenuView;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
 import javafx.geometry.Pos;
+import javafx.geometry.Rectangle2D;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
 import javafx.scene.control.ButtonType;
@@ -27,6 +28,7 @@ import javafx.scene.text.FontWeight;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 /**
@@ -78,7 +80,7 @@ public final class MenuViewImpl implements MenuView {
     @Override
     public void setController(final MenuController controller) {
         this.controller = Objects.requireNonNull(controller, "controller cannot be null");
-        this.skinImageView.setImage(this.getSkinImage());
+        this.showSkinImage();
     }
 
     /**
@@ -86,7 +88,7 @@ public final class MenuViewImpl implements MenuView {
      */
     @Override
     public void show() {
-        this.skinImageView.setImage(this.getSkinImage());
+        this.showSkinImage();
         this.menuPane.setVisible(true);
     }
 
@@ -130,17 +132,27 @@ public final class MenuViewImpl implements MenuView {
         skinImageView.visibleProperty().bind(widthProperty.greaterThan(SHOW_SKIN_THRESHOLD));
     }
 
-    private Image getSkinImage() {
-        final Image defaultImage = new Image(DEFAULT_SKIN_IMAGE_PATH);
+    private void showSkinImage() {
+        final SpriteAtlas atlas = SpriteAtlas.getInstance();
+        final Optional<Rectangle2D> viewport = atlas.getViewport(this.getSkinImagePath())
+            .or(() -> atlas.getViewport(DEFAULT_SKIN_IMAGE_PATH));
+        if (viewport.isEmpty()) {
+            //Without a viewport the whole atlas would be shown
+            LOGGER.warning("The skin image is not in the sprite atlas, keeping the current one");
+            return;
+        }
+        this.skinImageView.setImage(atlas.getImage());
+        this.skinImageView.setViewport(viewport.get());
+    }
+
+    private String getSkinImagePath() {
         if (Objects.isNull(this.controller)) {
             LOGGER.warning("Controller is not set, using default skin image");
-            return defaultImage;
+            return DEFAULT_SKIN_IMAGE_PATH;
         }
 
         final Path skin = this.controller.getActiveSkin().getFrontImage();
-        final String imagePath = skin.toString().replace("\\", "/");
-
-        return new Image(imagePath);
+        return skin.toString().replace("\\", "/");
     }
 
     private VBox initMenuItems() {
@@ -173,7 +185,7 @@ public final class MenuViewImpl implements MenuView {
                     final var result = alert.showAndWait();
                     if (result.isPresent() && result.get() == ButtonType.OK) {
                         this.controller.reset();
-                        this.skinImageView.setImage(this.getSkinImage());
+                        this.showSkinImage();
                     }
                 }
             }),
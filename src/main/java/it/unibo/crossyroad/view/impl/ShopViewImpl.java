@@ -2,19 +2,18 @@ package it.unibo.crossyroad.view.impl;
 
 import java.util.Comparator;
 import java.util.Objects;
-import java.util.Optional;
 
 import it.unibo.crossyroad.controller.api.ShopController;
 import it.unibo.crossyroad.model.api.Skin;
 import it.unibo.crossyroad.view.api.ShopView;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
+import javafx.geometry.Rectangle2D;
 import javafx.scene.Node;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.Labeled;
 import javafx.scene.control.ScrollPane;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.Background;
 import javafx.scene.layout.BackgroundFill;
@@ -494,9 +493,9 @@ public class ShopViewImpl implements ShopView {
      */
     private void loadSkinImage(final StackPane imageBox, final Skin skin, final boolean isUnlocked) {
         final String imagePath = "/skins/" + skin.getId() + "_front.png";
-        this.loadImage(imagePath).ifPresentOrElse(
-            image -> {
-                final ImageView imageView = this.createImageView(image, isUnlocked);
+        SpriteAtlas.getInstance().getViewport(imagePath).ifPresentOrElse(
+            viewport -> {
+                final ImageView imageView = this.createImageView(viewport, isUnlocked);
                 if (!isUnlocked) {
                     imageBox.getChildren().addAll(imageView, this.createLockLabel());
                 } else {
@@ -508,26 +507,15 @@ public class ShopViewImpl implements ShopView {
     }
 
     /**
-     * load an image from the resources folder.
+     * Crate an image view for a skin image, showing its region of the sprite atlas.
      * 
-     * @param path the path to the image resource.
-     * @return the optional containing the loaded image or empty.
-     */
-    private Optional<Image> loadImage(final String path) {
-        return Optional
-            .ofNullable(ShopViewImpl.class.getResource(path))
-            .map(resource -> new Image(resource.toExternalForm()));
-    }
-
-    /**
-     * Crate an image view for a skin image.
-     * 
-     * @param image the image to display.
+     * @param viewport the region of the atlas holding the image.
      * @param isUnlocked if the skin is unlocked.
      * @return the configured image view.
      */
-    private ImageView createImageView(final Image image, final boolean isUnlocked) {
-        final ImageView imageView = new ImageView(image);
+    private ImageView createImageView(final Rectangle2D viewport, final boolean isUnlocked) {
+        final ImageView imageView = new ImageView(SpriteAtlas.getInstance().getImage());
+        imageView.setViewport(viewport);
         this.bindImageSize(imageView, IMAGE_BOX_SIZE, IMAGE_BOX_RATIO);
         imageView.setPreserveRatio(true);
         if (!isUnlocked) {
@@ -0,0 +1,119 @@
+package it.unibo.crossyroad.view.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.Optional;
+
+import it.unibo.crossyroad.view.impl.AtlasIndex.Region;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+/**
+ * The sprites of the game, packed by the build into a single image with an {@link AtlasIndex}.
+ * The atlas is decoded once, the first time it's used, and shared by all the views: they either show
+ * a region of it, or copy a region out of it at the size they draw it at.
+ */
+public final class SpriteAtlas {
+    private static final String IMAGE_PATH = "/atlas/sprites.png";
+    private static final String INDEX_PATH = "/atlas/sprites.index";
+
+    private final Image image;
+    private final AtlasIndex index;
+
+    private SpriteAtlas() {
+        final InputStream imageStream = SpriteAtlas.class.getResourceAsStream(IMAGE_PATH);
+        final InputStream indexStream = SpriteAtlas.class.getResourceAsStream(INDEX_PATH);
+        if (imageStream == null || indexStream == null) {
+            throw new IllegalStateException("The sprite atlas was not found, it's built by the packSprites task");
+        }
+        try (imageStream;
+             BufferedReader reader = new BufferedReader(new InputStreamReader(indexStream, StandardCharsets.UTF_8))) {
+            this.index = AtlasIndex.parse(reader.lines().toList());
+            this.image = new Image(imageStream);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Cannot read the sprite atlas", e);
+        }
+        if (this.image.isError()) {
+            throw new IllegalStateException("The sprite atlas image cannot be decoded", this.image.getException());
+        }
+    }
+
+    /**
+     * Returns the atlas, loading it the first time.
+     *
+     * @return the atlas.
+     */
+    public static SpriteAtlas getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Returns the image holding all the sprites.
+     *
+     * @return the atlas image.
+     */
+    public Image getImage() {
+        return this.image;
+    }
+
+    /**
+     * Returns the region of the atlas image holding a sprite, to be used as the viewport of an ImageView.
+     *
+     * @param path the path of the sprite in the resources.
+     * @return the region of the sprite, or an empty Optional if the atlas doesn't have it.
+     */
+    public Optional<Rectangle2D> getViewport(final String path) {
+        return this.index.find(path).map(r -> new Rectangle2D(r.x(), r.y(), r.width(), r.height()));
+    }
+
+    /**
+     * Copies a sprite out of the atlas, scaled to the given size without smoothing, so that it can be drawn
+     * without scaling.
+     *
+     * @param path the path of the sprite in the resources.
+     * @param width the width, in pixels.
+     * @param height the height, in pixels.
+     * @return the scaled sprite, or null if the atlas doesn't have it.
+     * @throws IllegalArgumentException if the size is not positive.
+     */
+    public Image getSprite(final String path, final int width, final int height) {
+        Objects.requireNonNull(path, "Path cannot be null");
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Sprite size must be positive");
+        }
+        final Optional<Region> found = this.index.find(path);
+        if (found.isEmpty()) {
+            return null;
+        }
+        final Region region = found.get();
+        final int[] source = new int[region.width() * region.height()];
+        this.image.getPixelReader().getPixels(region.x(), region.y(), region.width(), region.height(),
+                                              PixelFormat.getIntArgbInstance(), source, 0, region.width());
+
+        //Nearest neighbour, like an Image loaded at a given size without smoothing
+        final int[] scaled = new int[width * height];
+        for (int row = 0; row < height; row++) {
+            final int sourceRow = row * region.height() / height * region.width();
+            for (int column = 0; column < width; column++) {
+                scaled[row * width + column] = source[sourceRow + column * region.width() / width];
+            }
+        }
+        final WritableImage sprite = new WritableImage(width, height);
+        sprite.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), scaled, 0, width);
+        return sprite;
+    }
+
+    /**
+     * Loads the atlas the first time it's asked for.
+     */
+    private static final class Holder {
+        private static final SpriteAtlas INSTANCE = new SpriteAtlas();
+    }
+}
@@ -0,0 +1,96 @@
+package it.unibo.crossyroad.view.impl;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import it.unibo.crossyroad.model.api.EntityType;
+
+/**
+ * Cache of the sprites of each {@link EntityType}, already scaled to the size they are drawn at, so that
+ * they can be drawn without scaling. A sprite is loaded the first time a size is asked for, and kept until
+ * the cache is cleared, which has to be done whenever the scale changes. A type has few sizes, so they are
+ * kept in small arrays and looked up without allocating.
+ *
+ * @param <T> the type of the sprites.
+ */
+public final class SpriteCache<T> {
+    private static final int INITIAL_SIZES = 2;
+
+    private final Loader<T> loader;
+    private final int[][] widths;
+    private final int[][] heights;
+    private final Object[][] sprites;
+    private final int[] counts;
+
+    /**
+     * Loads a sprite at a given size.
+     *
+     * @param <T> the type of the sprites.
+     */
+    @FunctionalInterface
+    public interface Loader<T> {
+        /**
+         * Loads the sprite of a type, scaled to a size.
+         *
+         * @param type the type of the element.
+         * @param width the width, in pixels.
+         * @param height the height, in pixels.
+         * @return the sprite, or null if the type has none.
+         */
+        T load(EntityType type, int width, int height);
+    }
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param loader how to load a sprite that isn't in the cache.
+     */
+    public SpriteCache(final Loader<T> loader) {
+        this.loader = Objects.requireNonNull(loader, "Loader cannot be null");
+        final int types = EntityType.values().length;
+        this.widths = new int[types][INITIAL_SIZES];
+        this.heights = new int[types][INITIAL_SIZES];
+        this.sprites = new Object[types][INITIAL_SIZES];
+        this.counts = new int[types];
+    }
+
+    /**
+     * Returns the sprite of a type at a size, loading it if it's not in the cache yet.
+     *
+     * @param type the type of the element.
+     * @param width the width, in pixels.
+     * @param height the height, in pixels.
+     * @return the sprite, or null if the type has none.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(final EntityType type, final int width, final int height) {
+        final int t = type.ordinal();
+        for (int i = 0; i < this.counts[t]; i++) {
+            if (this.widths[t][i] == width && this.heights[t][i] == height) {
+                return (T) this.sprites[t][i];
+            }
+        }
+        final T sprite = this.loader.load(type, width, height);
+        if (this.counts[t] == this.sprites[t].length) {
+            final int capacity = this.counts[t] * 2;
+            this.widths[t] = Arrays.copyOf(this.widths[t], capacity);
+            this.heights[t] = Arrays.copyOf(this.heights[t], capacity);
+            this.sprites[t] = Arrays.copyOf(this.sprites[t], capacity);
+        }
+        this.widths[t][this.counts[t]] = width;
+        this.heights[t][this.counts[t]] = height;
+        this.sprites[t][this.counts[t]] = sprite;
+        this.counts[t]++;
+        return sprite;
+    }
+
+    /**
+     * Empties the cache, so that the sprites are loaded again at their new size.
+     */
+    public void clear() {
+        for (final Object[] row : this.sprites) {
+            Arrays.fill(row, null);
+        }
+        Arrays.fill(this.counts, 0);
+    }
+}
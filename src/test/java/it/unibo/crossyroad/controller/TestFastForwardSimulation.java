@@ -0,0 +1,109 @@
+package it.unibo.crossyroad.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.crossyroad.controller.api.SimulationResult;
+import it.unibo.crossyroad.controller.impl.FastForwardSimulation;
+import it.unibo.crossyroad.controller.impl.HeadlessSimulation;
+import it.unibo.crossyroad.controller.impl.ScriptedInput;
+import it.unibo.crossyroad.controller.impl.VirtualClock;
+import it.unibo.crossyroad.model.api.Direction;
+import it.unibo.crossyroad.model.api.GameParameters;
+import it.unibo.crossyroad.model.api.Pair;
+import it.unibo.crossyroad.model.api.managers.GameManager;
+import it.unibo.crossyroad.model.impl.GameParametersImpl;
+import it.unibo.crossyroad.model.impl.managers.GameManagerImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for the {@link FastForwardSimulation} class.
+ */
+class TestFastForwardSimulation {
+    private static final long DELTA_TIME = 10;
+    private static final long MAX_TICKS = 10_000;
+    private static final int SEEDS = 5;
+    private static final int MOVES = 100;
+    private static final int MAX_PAUSE = 2_000;
+    private static final long IDLE_TICKS = 3_000;
+
+    /**
+     * Tests that skipping the quiet stretches gives the same games as the fixed updates, with fewer updates.
+     */
+    @Test
+    void testSameAsFixedSteps() {
+        for (long seed = 0; seed < SEEDS; seed++) {
+            final GameParameters fixedParameters = new GameParametersImpl();
+            final GameManager fixedGame = new GameManagerImpl(fixedParameters, seed);
+            final SimulationResult expected = new HeadlessSimulation(
+                fixedGame, fixedParameters, new VirtualClock(), new ScriptedInput(this.script(seed)), DELTA_TIME
+            ).run(MAX_TICKS);
+
+            final GameParameters parameters = new GameParametersImpl();
+            final GameManager game = new GameManagerImpl(parameters, seed);
+            final FastForwardSimulation simulation = new FastForwardSimulation(
+                game, parameters, new VirtualClock(), new ScriptedInput(this.script(seed)), DELTA_TIME
+            );
+            assertEquals(expected, simulation.run(MAX_TICKS));
+            assertEquals(this.describe(fixedGame), this.describe(game));
+            assertTrue(simulation.getUpdates() < expected.ticks());
+        }
+    }
+
+    /**
+     * Tests that an input that may move at every poll is polled at every tick, like with the fixed updates.
+     */
+    @Test
+    void testUnknownInput() {
+        final GameParameters parameters = new GameParametersImpl();
+        final List<Long> polls = new ArrayList<>();
+        final FastForwardSimulation simulation = new FastForwardSimulation(
+            new GameManagerImpl(parameters, 0), parameters, new VirtualClock(), time -> {
+                polls.add(time);
+                return Optional.empty();
+            }, DELTA_TIME
+        );
+        final SimulationResult result = simulation.run(IDLE_TICKS);
+        assertEquals(result.ticks(), simulation.getUpdates());
+        assertEquals(result.ticks(), polls.size());
+    }
+
+    /**
+     * Tests the checks on the arguments.
+     */
+    @Test
+    void testInvalidArguments() {
+        final GameParameters parameters = new GameParametersImpl();
+        assertThrows(IllegalArgumentException.class, () -> new FastForwardSimulation(
+            new GameManagerImpl(parameters), parameters, new VirtualClock(), time -> Optional.empty(), 0
+        ));
+        assertThrows(IllegalArgumentException.class, () -> new FastForwardSimulation(
+            new GameManagerImpl(parameters), parameters, new VirtualClock(), time -> Optional.empty(), DELTA_TIME
+        ).run(-1));
+    }
+
+    private List<Pair<Long, Direction>> script(final long seed) {
+        final SplittableRandom random = new SplittableRandom(seed);
+        final Direction[] directions = {Direction.UP, Direction.UP, Direction.UP, Direction.LEFT, Direction.RIGHT};
+        final List<Pair<Long, Direction>> moves = new ArrayList<>();
+        long time = 0;
+        for (int i = 0; i < MOVES; i++) {
+            time += random.nextInt(1, MAX_PAUSE);
+            moves.add(new Pair<>(time, directions[random.nextInt(directions.length)]));
+        }
+        return moves;
+    }
+
+    private List<String> describe(final GameManager game) {
+        return game.getPositionables().stream()
+                   .map(p -> p.getEntityType() + " " + p.getPosition())
+                   .toList();
+    }
+}
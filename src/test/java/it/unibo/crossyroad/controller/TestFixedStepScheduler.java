@@ -0,0 +1,83 @@
+package it.unibo.crossyroad.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.crossyroad.controller.api.LoopMetrics;
+import it.unibo.crossyroad.controller.impl.FixedStepScheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class for the {@link FixedStepScheduler} class.
+ */
+class TestFixedStepScheduler {
+    private static final int TICKS_PER_SECOND = 100;
+    private static final int ODD_TICKS_PER_SECOND = 60;
+    private static final int MAX_CATCH_UP = 5;
+    private static final long STEP_NANOS = 10_000_000L;
+    private static final long STEP_MILLIS = 10;
+    private static final long START = 123_456_789L;
+    private static final long LONG_PAUSE_STEPS = 100;
+    private static final long ONE_SECOND_MILLIS = 1000;
+
+    private FixedStepScheduler scheduler;
+
+    /**
+     * Creates a scheduler at 100 ticks per second before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        this.scheduler = new FixedStepScheduler(TICKS_PER_SECOND, MAX_CATCH_UP);
+        this.scheduler.resync(START);
+    }
+
+    /**
+     * Tests that a step is due only once its time has come, and that the first step isn't huge.
+     */
+    @Test
+    void testRegularSteps() {
+        assertEquals(0, this.scheduler.stepsDue(START));
+        assertEquals(STEP_NANOS, this.scheduler.nanosUntilNextStep(START));
+        assertEquals(1, this.scheduler.stepsDue(START + STEP_NANOS));
+        assertEquals(STEP_MILLIS, this.scheduler.nextDeltaMillis());
+        assertEquals(0, this.scheduler.stepsDue(START + STEP_NANOS));
+        assertEquals(2, this.scheduler.stepsDue(START + 3 * STEP_NANOS));
+    }
+
+    /**
+     * Tests that a long delay runs a bounded number of steps and drops the rest.
+     */
+    @Test
+    void testBoundedCatchUp() {
+        final long now = START + LONG_PAUSE_STEPS * STEP_NANOS;
+        final int steps = this.scheduler.stepsDue(now);
+        assertEquals(MAX_CATCH_UP, steps);
+        for (int i = 0; i < steps; i++) {
+            this.scheduler.nextDeltaMillis();
+        }
+        assertEquals(0, this.scheduler.stepsDue(now));
+
+        final LoopMetrics metrics = this.scheduler.getMetrics();
+        assertEquals(MAX_CATCH_UP, metrics.ticks());
+        assertEquals(1, metrics.frames());
+        assertEquals(1, metrics.overruns());
+        assertEquals((LONG_PAUSE_STEPS - MAX_CATCH_UP) * STEP_NANOS, metrics.droppedNanos());
+    }
+
+    /**
+     * Tests that delta times of steps that are not a whole number of milliseconds add up to the game time.
+     */
+    @Test
+    void testNoDrift() {
+        final FixedStepScheduler odd = new FixedStepScheduler(ODD_TICKS_PER_SECOND, MAX_CATCH_UP);
+        long total = 0;
+        for (int i = 0; i < ODD_TICKS_PER_SECOND; i++) {
+            total += odd.nextDeltaMillis();
+        }
+        //60 steps of 16666666 ns are 40 ns short of a second
+        assertEquals(ONE_SECOND_MILLIS - 1, total);
+        assertThrows(IllegalArgumentException.class, () -> new FixedStepScheduler(0, MAX_CATCH_UP));
+    }
+}
@@ -0,0 +1,109 @@
+package it.unibo.crossyroad.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.crossyroad.controller.api.SimulationResult;
+import it.unibo.crossyroad.controller.impl.HeadlessSimulation;
+import it.unibo.crossyroad.controller.impl.ScriptedInput;
+import it.unibo.crossyroad.controller.impl.VirtualClock;
+import it.unibo.crossyroad.model.api.Direction;
+import it.unibo.crossyroad.model.api.GameParameters;
+import it.unibo.crossyroad.model.api.Pair;
+import it.unibo.crossyroad.model.api.managers.GameManager;
+import it.unibo.crossyroad.model.impl.GameParametersImpl;
+import it.unibo.crossyroad.model.impl.managers.GameManagerImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for the {@link HeadlessSimulation} class.
+ */
+class TestHeadlessSimulation {
+    private static final long DELTA_TIME = 10;
+    private static final long MAX_TICKS = 5_000;
+    private static final long MOVE_TIME = 50;
+
+    private GameParameters parameters;
+    private GameManager gameManager;
+    private VirtualClock clock;
+
+    /**
+     * Creates a new game before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        this.parameters = new GameParametersImpl();
+        this.gameManager = new GameManagerImpl(this.parameters);
+        this.clock = new VirtualClock();
+    }
+
+    /**
+     * Tests that the virtual clock moves by the fixed delta time at every update.
+     */
+    @Test
+    void testVirtualTime() {
+        final SimulationResult result = new HeadlessSimulation(
+            this.gameManager, this.parameters, this.clock, time -> Optional.empty(), DELTA_TIME
+        ).run(MAX_TICKS);
+
+        assertTrue(result.ticks() <= MAX_TICKS);
+        assertEquals(result.ticks() * DELTA_TIME, result.simulatedTime());
+        assertEquals(result.simulatedTime(), this.clock.millis());
+        assertEquals(result.gameOver(), result.ticks() < MAX_TICKS);
+    }
+
+    /**
+     * Tests that the input is polled once per update, with the time since the start of the game.
+     */
+    @Test
+    void testInputPolledEveryTick() {
+        final List<Long> polls = new ArrayList<>();
+        final ScriptedInput script = new ScriptedInput(List.of(new Pair<>(MOVE_TIME, Direction.UP)));
+        this.clock.advance(MOVE_TIME);
+        final SimulationResult result = new HeadlessSimulation(this.gameManager, this.parameters, this.clock, time -> {
+            polls.add(time);
+            return script.poll(time);
+        }, DELTA_TIME).run(MOVE_TIME / DELTA_TIME + 1);
+
+        assertEquals(result.ticks(), polls.size());
+        assertEquals(0, polls.get(0).longValue());
+        assertEquals(result.gameOver(), !script.isDone());
+    }
+
+    /**
+     * Tests that the scripted moves are returned in time order, and only once they are due.
+     */
+    @Test
+    void testScriptOrder() {
+        final ScriptedInput input = new ScriptedInput(List.of(
+            new Pair<>(MOVE_TIME, Direction.LEFT),
+            new Pair<>(0L, Direction.UP),
+            new Pair<>(0L, Direction.RIGHT)
+        ));
+        assertEquals(Optional.of(Direction.UP), input.poll(0));
+        assertEquals(Optional.of(Direction.RIGHT), input.poll(0));
+        assertEquals(Optional.empty(), input.poll(MOVE_TIME - 1));
+        assertFalse(input.isDone());
+        assertEquals(Optional.of(Direction.LEFT), input.poll(MOVE_TIME));
+        assertTrue(input.isDone());
+    }
+
+    /**
+     * Tests the checks on the arguments.
+     */
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> this.clock.advance(-DELTA_TIME));
+        assertThrows(IllegalArgumentException.class, () -> new HeadlessSimulation(
+            this.gameManager, this.parameters, this.clock, time -> Optional.empty(), 0
+        ));
+    }
+}
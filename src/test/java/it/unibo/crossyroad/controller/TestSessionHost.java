@@ -0,0 +1,51 @@
+package it.unibo.crossyroad.controller;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.crossyroad.controller.api.HostReport;
+import it.unibo.crossyroad.controller.impl.VirtualThreadSessionHost;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for the {@link VirtualThreadSessionHost} class.
+ */
+class TestSessionHost {
+    private static final int SESSIONS = 200;
+    private static final long MAX_TICKS = 300;
+    private static final long DELTA_TIME = 10;
+
+    /**
+     * Tests that every session runs on its own and that the throughput is reported.
+     */
+    @Test
+    void testRunManySessions() {
+        final HostReport report = VirtualThreadSessionHost.headless(i -> time -> Optional.empty(), DELTA_TIME)
+            .run(SESSIONS, MAX_TICKS);
+
+        assertEquals(SESSIONS, report.results().size());
+        report.results().forEach(r -> {
+            assertTrue(r.ticks() <= MAX_TICKS);
+            assertEquals(r.ticks() * DELTA_TIME, r.simulatedTime());
+        });
+        assertEquals(report.results().stream().mapToLong(r -> r.ticks()).sum(), report.totalTicks());
+        assertTrue(report.ticksPerSecond() > 0);
+        assertEquals(report.ticksPerSecond() / report.cores(), report.ticksPerSecondPerCore());
+    }
+
+    /**
+     * Tests that the failure of a session is reported to the caller.
+     */
+    @Test
+    void testFailingSession() {
+        final VirtualThreadSessionHost host = new VirtualThreadSessionHost(i -> maxTicks -> {
+            throw new IllegalArgumentException("Broken session");
+        });
+        assertThrows(IllegalStateException.class, () -> host.run(SESSIONS, MAX_TICKS));
+        assertThrows(IllegalArgumentException.class, () -> host.run(-1, MAX_TICKS));
+    }
+}
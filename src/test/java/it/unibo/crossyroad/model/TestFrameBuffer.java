@@ -0,0 +1,147 @@
+package it.unibo.crossyroad.model;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.crossyroad.model.api.Dimension;
+import it.unibo.crossyroad.model.api.EntityType;
+import it.unibo.crossyroad.model.api.Frame;
+import it.unibo.crossyroad.model.api.FrameBuffer;
+import it.unibo.crossyroad.model.api.Position;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for the {@link Frame} and {@link FrameBuffer} classes.
+ */
+class TestFrameBuffer {
+    private static final double DELTA = 1e-9;
+    private static final double HALF = 0.5;
+    private static final int MANY_ELEMENTS = 200;
+    private static final int FRAMES = 20_000;
+    private static final int ELEMENTS_PER_FRAME = 16;
+    private static final long PUBLISHED_AT = 1_000_000L;
+    private static final long STEP_NANOS = 10_000_000L;
+    private static final long SHORT = 1000;
+    private static final long LONG = 3000;
+    private static final int BUFFERS = 3;
+
+    /**
+     * Tests that a frame stores the elements and interpolates between their two positions.
+     */
+    @Test
+    void testFrame() {
+        final Frame frame = new Frame();
+        for (int i = 0; i < MANY_ELEMENTS; i++) {
+            frame.add(EntityType.CAR_LEFT, Position.of(i, 1), Dimension.of(2, 1), Position.of(i + 1, 1));
+        }
+        assertEquals(MANY_ELEMENTS, frame.size());
+        assertEquals(EntityType.CAR_LEFT, frame.getType(MANY_ELEMENTS - 1));
+        assertEquals(MANY_ELEMENTS - 1, frame.getX(MANY_ELEMENTS - 1, 1), DELTA);
+        assertEquals(MANY_ELEMENTS - HALF, frame.getX(MANY_ELEMENTS - 1, HALF), DELTA);
+        assertEquals(2, frame.getWidth(0), DELTA);
+
+        frame.setScrollOffset(2, 1);
+        assertEquals(1 + HALF, frame.getScrollOffset(HALF), DELTA);
+
+        //The shortest remaining time is kept
+        frame.addPowerUp(EntityType.SLOW_CARS, LONG);
+        frame.addPowerUp(EntityType.SLOW_CARS, SHORT);
+        assertTrue(frame.isPowerUpActive(EntityType.SLOW_CARS));
+        assertEquals(SHORT, frame.getPowerUpRemaining(EntityType.SLOW_CARS));
+        assertFalse(frame.isPowerUpActive(EntityType.INVINCIBILITY));
+        assertThrows(IllegalArgumentException.class, () -> frame.addPowerUp(EntityType.COIN, SHORT));
+
+        frame.clear();
+        assertEquals(0, frame.size());
+        assertFalse(frame.isPowerUpActive(EntityType.SLOW_CARS));
+    }
+
+    /**
+     * Tests that the interpolation factor goes from 0 to 1 over a step after the frame is published.
+     */
+    @Test
+    void testAlpha() {
+        final Frame frame = new Frame();
+        assertEquals(1, frame.alphaAt(PUBLISHED_AT), DELTA);
+        frame.setTiming(PUBLISHED_AT, STEP_NANOS);
+        assertEquals(0, frame.alphaAt(PUBLISHED_AT - STEP_NANOS), DELTA);
+        assertEquals(HALF, frame.alphaAt(PUBLISHED_AT + STEP_NANOS / 2), DELTA);
+        assertEquals(1, frame.alphaAt(PUBLISHED_AT + 2 * STEP_NANOS), DELTA);
+        assertThrows(IllegalArgumentException.class, () -> frame.setTiming(PUBLISHED_AT, 0));
+    }
+
+    /**
+     * Tests that the reader gets the newest published frame, and that the three frames are reused.
+     */
+    @Test
+    void testSwap() {
+        final FrameBuffer buffer = new FrameBuffer();
+        final Set<Frame> seen = new HashSet<>();
+        assertFalse(buffer.refresh());
+
+        for (int i = 1; i <= BUFFERS; i++) {
+            final Frame back = buffer.getBackFrame();
+            seen.add(back);
+            back.clear();
+            back.setCounters(0, i);
+            buffer.publish();
+            assertNotSame(back, buffer.getBackFrame());
+        }
+        //Only the newest frame is taken, the others are dropped
+        assertTrue(buffer.refresh());
+        assertEquals(BUFFERS, buffer.getFrontFrame().getScore());
+        assertFalse(buffer.refresh());
+        final Frame front = buffer.getFrontFrame();
+        buffer.publish();
+        assertSame(front, buffer.getFrontFrame());
+        seen.add(front);
+        seen.add(buffer.getBackFrame());
+        assertEquals(BUFFERS, seen.size());
+    }
+
+    /**
+     * Tests that the reader never sees a frame while it's written.
+     *
+     * @throws InterruptedException if the test is interrupted.
+     */
+    @Test
+    void testConcurrentSwap() throws InterruptedException {
+        final FrameBuffer buffer = new FrameBuffer();
+        final Thread writer = new Thread(() -> {
+            for (int f = 1; f <= FRAMES; f++) {
+                final Frame frame = buffer.getBackFrame();
+                frame.clear();
+                for (int i = 0; i < ELEMENTS_PER_FRAME; i++) {
+                    frame.add(EntityType.WOOD_LOG, Position.of(f, f), Dimension.unit(), Position.of(f, f));
+                }
+                frame.setCounters(0, f);
+                buffer.publish();
+            }
+        });
+        writer.start();
+        boolean consistent = true;
+        int last = 0;
+        while (last < FRAMES) {
+            if (buffer.refresh()) {
+                final Frame frame = buffer.getFrontFrame();
+                final int score = frame.getScore();
+                boolean same = score > last && frame.size() == ELEMENTS_PER_FRAME;
+                for (int i = 0; i < frame.size(); i++) {
+                    same = same && frame.getX(i, 1) == score;
+                }
+                consistent = consistent && same;
+                last = score;
+            }
+        }
+        writer.join();
+        assertTrue(consistent);
+    }
+}
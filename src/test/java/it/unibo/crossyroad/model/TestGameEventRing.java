@@ -0,0 +1,102 @@
+package it.unibo.crossyroad.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.crossyroad.model.api.EntityType;
+import it.unibo.crossyroad.model.api.GameEvent;
+import it.unibo.crossyroad.model.api.GameEventRing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for the {@link GameEventRing} class.
+ */
+class TestGameEventRing {
+    private static final int CAPACITY = 8;
+    private static final int EVENTS = 200_000;
+    private static final long COINS = 7;
+
+    /**
+     * Tests that every subscriber gets the events published after it subscribed, in order.
+     */
+    @Test
+    void testPoll() {
+        final GameEventRing ring = new GameEventRing(CAPACITY);
+        ring.publish(GameEvent.GAME_RESET, EntityType.PLAYER, 0);
+        final GameEventRing.Cursor first = ring.subscribe();
+        ring.publish(GameEvent.COIN_PICKED, EntityType.COIN, COINS);
+        final GameEventRing.Cursor second = ring.subscribe();
+        ring.publish(GameEvent.POWER_UP_EXPIRED, EntityType.SLOW_CARS, 0);
+
+        final List<String> firstEvents = new ArrayList<>();
+        assertEquals(2, first.poll((e, t, v) -> firstEvents.add(e + ":" + t + ":" + v)));
+        assertEquals(List.of("COIN_PICKED:COIN:7", "POWER_UP_EXPIRED:SLOW_CARS:0"), firstEvents);
+        assertEquals(0, first.poll((e, t, v) -> firstEvents.add(e.name())));
+
+        final List<GameEvent> secondEvents = new ArrayList<>();
+        assertEquals(1, second.poll((e, t, v) -> secondEvents.add(e)));
+        assertEquals(List.of(GameEvent.POWER_UP_EXPIRED), secondEvents);
+        assertEquals(0, first.getDropped());
+        assertEquals(0, second.getDropped());
+    }
+
+    /**
+     * Tests that a subscriber more than a ring behind gets the newest events and counts the lost ones.
+     */
+    @Test
+    void testOverrun() {
+        final GameEventRing ring = new GameEventRing(CAPACITY);
+        final GameEventRing.Cursor cursor = ring.subscribe();
+        for (int i = 0; i < CAPACITY * 2; i++) {
+            ring.publish(GameEvent.SCORE_INCREMENTED, EntityType.PLAYER, i);
+        }
+        final List<Long> values = new ArrayList<>();
+        assertEquals(CAPACITY, cursor.poll((e, t, v) -> values.add(v)));
+        assertEquals(CAPACITY, cursor.getDropped());
+        assertEquals(CAPACITY, values.get(0).longValue());
+        assertEquals(CAPACITY * 2L, ring.getPublished());
+    }
+
+    /**
+     * Tests that the capacity must be a power of two.
+     */
+    @Test
+    void testCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new GameEventRing(0));
+        assertThrows(IllegalArgumentException.class, () -> new GameEventRing(CAPACITY - 1));
+    }
+
+    /**
+     * Tests that a subscriber reading while the events are published only gets them whole and in order.
+     *
+     * @throws InterruptedException if the test is interrupted.
+     */
+    @Test
+    void testConcurrentPoll() throws InterruptedException {
+        final GameEventRing ring = new GameEventRing(CAPACITY);
+        final GameEventRing.Cursor cursor = ring.subscribe();
+        final Thread writer = new Thread(() -> {
+            for (int i = 1; i <= EVENTS; i++) {
+                //The subject and the value always go together, so a torn event would be noticed
+                ring.publish(GameEvent.SCORE_INCREMENTED, i % 2 == 0 ? EntityType.PLAYER : EntityType.COIN, i);
+            }
+        });
+        final long[] last = new long[1];
+        final boolean[] consistent = {true};
+        writer.start();
+        while (last[0] < EVENTS) {
+            cursor.poll((e, t, v) -> {
+                consistent[0] = consistent[0] && v > last[0] && t == (v % 2 == 0 ? EntityType.PLAYER : EntityType.COIN);
+                last[0] = v;
+            });
+        }
+        writer.join();
+        assertTrue(consistent[0]);
+        assertEquals((long) EVENTS, last[0]);
+    }
+}
@@ -0,0 +1,97 @@
+package it.unibo.crossyroad.model;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.Range;
+
+import it.unibo.crossyroad.model.api.Dimension;
+import it.unibo.crossyroad.model.api.Geometry;
+import it.unibo.crossyroad.model.api.Position;
+import it.unibo.crossyroad.model.impl.obstacles.Rock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for the {@link Geometry} class.
+ */
+class TestGeometry {
+    private static final int RANDOM_CASES = 10_000;
+    private static final double MAX_COORDINATE = 4;
+    private static final double MAX_SIZE = 3;
+    private static final double STEPS_PER_UNIT = 4;
+
+    /**
+     * Tests that touching boxes don't overlap, since their extents are half-open.
+     */
+    @Test
+    void testTouchingBoxes() {
+        final Rock first = new Rock(Position.of(0, 0), Dimension.unit());
+        assertFalse(Geometry.overlaps(first, new Rock(Position.of(1, 0), Dimension.unit())));
+        assertFalse(Geometry.overlaps(first, new Rock(Position.of(0, -1), Dimension.unit())));
+        assertTrue(Geometry.overlaps(first, new Rock(Position.of(0.5, 0.5), Dimension.unit())));
+        assertTrue(Geometry.contains(first, Position.of(0, 0)));
+        assertFalse(Geometry.contains(first, Position.of(1, 0.5)));
+    }
+
+    /**
+     * Tests the closed interval check.
+     */
+    @Test
+    void testIsBetween() {
+        assertTrue(Geometry.isBetween(0, 0, 1));
+        assertTrue(Geometry.isBetween(1, 0, 1));
+        assertFalse(Geometry.isBetween(1.5, 0, 1));
+        assertFalse(Geometry.isBetween(Double.NaN, 0, 1));
+    }
+
+    /**
+     * Tests that the results are the same as the ones computed with Guava ranges.
+     */
+    @Test
+    void testSameResultsAsRanges() {
+        final Random random = new Random(0);
+        for (int i = 0; i < RANDOM_CASES; i++) {
+            //Coordinates on a quarter grid, so that touching boxes are frequent
+            final Rock first = randomBox(random);
+            final Rock second = randomBox(random);
+            final Position point = Position.of(randomCoordinate(random), randomCoordinate(random));
+            assertEquals(rangesOverlap(first, second), Geometry.overlaps(first, second));
+            assertEquals(rangeOf(first, true).contains(point.x()) && rangeOf(first, false).contains(point.y()),
+                         Geometry.contains(first, point));
+        }
+    }
+
+    private static boolean rangesOverlap(final Rock first, final Rock second) {
+        final Range<Double> x1 = rangeOf(first, true);
+        final Range<Double> y1 = rangeOf(first, false);
+        final Range<Double> x2 = rangeOf(second, true);
+        final Range<Double> y2 = rangeOf(second, false);
+        return x1.isConnected(x2) && y1.isConnected(y2)
+            && !x1.intersection(x2).isEmpty() && !y1.intersection(y2).isEmpty();
+    }
+
+    private static Range<Double> rangeOf(final Rock box, final boolean horizontal) {
+        return horizontal
+            ? Range.closedOpen(box.getPosition().x(), box.getPosition().x() + box.getDimension().width())
+            : Range.closedOpen(box.getPosition().y(), box.getPosition().y() + box.getDimension().height());
+    }
+
+    private static Rock randomBox(final Random random) {
+        return new Rock(
+            Position.of(randomCoordinate(random), randomCoordinate(random)),
+            Dimension.of(randomSize(random), randomSize(random))
+        );
+    }
+
+    private static double randomCoordinate(final Random random) {
+        return Math.floor(random.nextDouble(-MAX_COORDINATE, MAX_COORDINATE) * STEPS_PER_UNIT) / STEPS_PER_UNIT;
+    }
+
+    private static double randomSize(final Random random) {
+        return (Math.ceil(random.nextDouble(MAX_SIZE) * STEPS_PER_UNIT) + 1) / STEPS_PER_UNIT;
+    }
+}
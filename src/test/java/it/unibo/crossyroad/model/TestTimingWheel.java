@@ -0,0 +1,119 @@
+package it.unibo.crossyroad.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.crossyroad.model.api.TimingWheel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for the {@link TimingWheel} class.
+ */
+class TestTimingWheel {
+    private static final long TICK = 10;
+    private static final int SLOTS = 8;
+    private static final long DELAY = 25;
+    private static final long LONG_DELAY = TICK * (SLOTS * 3 + 2);
+    private static final long STEP = 7;
+
+    private final TimingWheel wheel = new TimingWheel(TICK, SLOTS);
+    private final List<String> fired = new ArrayList<>();
+
+    /**
+     * Tests that a timer fires once, on the first advance that reaches its deadline, and never before.
+     */
+    @Test
+    void testDeadline() {
+        final TimingWheel.Timer timer = this.wheel.schedule(DELAY, () -> this.fired.add("a"));
+        assertEquals(DELAY, timer.getDeadline());
+        while (this.wheel.now() < DELAY) {
+            assertTrue(this.fired.isEmpty());
+            this.wheel.advance(STEP);
+        }
+        //Due at 25, in the slot of 30: the advance to 28 doesn't reach it yet
+        this.wheel.advance(STEP);
+        assertEquals(List.of("a"), this.fired);
+        assertFalse(timer.isPending());
+        assertEquals(0, this.wheel.size());
+
+        this.wheel.advance(LONG_DELAY);
+        assertEquals(List.of("a"), this.fired);
+    }
+
+    /**
+     * Tests that timers more than a round of the wheel away wait for their round, and that a single
+     * long advance fires the due timers in the order of their deadlines.
+     */
+    @Test
+    void testRounds() {
+        this.wheel.schedule(LONG_DELAY, () -> this.fired.add("late"));
+        this.wheel.schedule(DELAY, () -> this.fired.add("early"));
+        this.wheel.schedule(DELAY, () -> this.fired.add("early too"));
+        this.wheel.advance(LONG_DELAY - TICK);
+        assertEquals(List.of("early", "early too"), this.fired);
+        this.wheel.advance(TICK);
+        assertEquals(List.of("early", "early too", "late"), this.fired);
+    }
+
+    /**
+     * Tests that cancelled timers don't fire, even when cancelled by a timer due in the same tick,
+     * and that tasks can schedule new timers.
+     */
+    @Test
+    void testCancelAndReschedule() {
+        final TimingWheel.Timer[] second = new TimingWheel.Timer[1];
+        this.wheel.schedule(DELAY, () -> {
+            this.fired.add("first");
+            second[0].cancel();
+            this.wheel.schedule(0, () -> this.fired.add("next"));
+        });
+        second[0] = this.wheel.schedule(DELAY, () -> this.fired.add("second"));
+        final TimingWheel.Timer third = this.wheel.schedule(DELAY, () -> this.fired.add("third"));
+        assertTrue(third.cancel());
+        assertFalse(third.cancel());
+
+        this.wheel.advance(DELAY + STEP);
+        assertEquals(List.of("first"), this.fired);
+        assertEquals(1, this.wheel.size());
+        this.wheel.advance(TICK);
+        assertEquals(List.of("first", "next"), this.fired);
+        assertEquals(0, this.wheel.size());
+    }
+
+    /**
+     * Tests that the time to the next timer is the shortest advance that fires it.
+     */
+    @Test
+    void testTimeToNext() {
+        assertEquals(Long.MAX_VALUE, this.wheel.getTimeToNext());
+        this.wheel.schedule(LONG_DELAY, () -> this.fired.add("late"));
+        assertEquals(LONG_DELAY, this.wheel.getTimeToNext());
+        this.wheel.advance(STEP);
+        this.wheel.schedule(DELAY, () -> this.fired.add("early"));
+        final long next = this.wheel.getTimeToNext();
+        assertTrue(next >= DELAY && next < DELAY + TICK);
+
+        this.wheel.advance(next - 1);
+        assertTrue(this.fired.isEmpty());
+        this.wheel.advance(1);
+        assertEquals(List.of("early"), this.fired);
+        assertEquals(LONG_DELAY - this.wheel.now(), this.wheel.getTimeToNext());
+    }
+
+    /**
+     * Tests that the wheel refuses invalid sizes, delays and times.
+     */
+    @Test
+    void testInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> new TimingWheel(0, SLOTS));
+        assertThrows(IllegalArgumentException.class, () -> new TimingWheel(TICK, SLOTS - 1));
+        assertThrows(IllegalArgumentException.class, () -> this.wheel.schedule(-1, () -> { }));
+        assertThrows(IllegalArgumentException.class, () -> this.wheel.advance(-1));
+    }
+}
@@ -0,0 +1,128 @@
+package it.unibo.crossyroad.model.chunks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.crossyroad.model.api.Dimension;
+import it.unibo.crossyroad.model.api.Direction;
+import it.unibo.crossyroad.model.api.GameParameters;
+import it.unibo.crossyroad.model.api.Position;
+import it.unibo.crossyroad.model.api.obstacles.Obstacle;
+import it.unibo.crossyroad.model.impl.GameParametersBuilder;
+import it.unibo.crossyroad.model.impl.chunks.Lane;
+import it.unibo.crossyroad.model.impl.chunks.Road;
+import it.unibo.crossyroad.model.impl.obstacles.Car;
+import it.unibo.crossyroad.model.impl.obstacles.WoodLog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestLane {
+    private static final double SPEED = 3;
+    private static final long DELTA_TIME = 100;
+    private static final int UPDATES = 300;
+    private static final int OVERTAKE_UPDATES = 10;
+    private static final double MAX_X = 12;
+
+    private Lane lane;
+
+    @BeforeEach
+    void setUp() {
+        this.lane = new Lane();
+    }
+
+    @Test
+    void testQuery() {
+        final Car first = new Car(new Position(0, 0), SPEED, Direction.RIGHT);
+        final Car second = new Car(new Position(5, 0), SPEED, Direction.RIGHT);
+        final WoodLog log = new WoodLog(new Position(-4, 0), new Dimension(6, 1), SPEED, Direction.RIGHT);
+        this.lane.add(second);
+        this.lane.add(first);
+        this.lane.add(log);
+
+        assertEquals(List.of(log, first), this.query(1, 1));
+        assertEquals(List.of(log, first), this.query(1.5, 2.5));
+        assertEquals(List.of(second), this.query(2, 5));
+        assertEquals(List.of(log, first, second), this.query(-10, 10));
+        assertTrue(this.query(7, 10).isEmpty());
+    }
+
+    @Test
+    void testRemove() {
+        final Car car = new Car(new Position(0, 0), SPEED, Direction.RIGHT);
+        this.lane.add(car);
+        assertTrue(this.lane.remove(car));
+        assertFalse(this.lane.remove(car));
+        assertEquals(0, this.lane.size());
+        assertTrue(this.query(0, 1).isEmpty());
+    }
+
+    @Test
+    void testSortAfterMoving() {
+        final GameParameters params = new GameParametersBuilder().setCarSpeedMultiplier(1).build();
+        final Car slow = new Car(new Position(0, 0), SPEED, Direction.RIGHT);
+        final Car fast = new Car(new Position(-2, 0), SPEED * 2, Direction.RIGHT);
+        this.lane.add(slow);
+        this.lane.add(fast);
+
+        //The fast car overtakes the slow one
+        for (int i = 0; i < OVERTAKE_UPDATES; i++) {
+            slow.update(DELTA_TIME, params);
+            fast.update(DELTA_TIME, params);
+        }
+        this.lane.sort();
+        assertEquals(List.of(slow, fast), this.query(-MAX_X, MAX_X));
+    }
+
+    @Test
+    void testSortWhenMarkedMoved() {
+        final GameParameters params = new GameParametersBuilder().setCarSpeedMultiplier(1).build();
+        final Car slow = new Car(new Position(0, 0), SPEED, Direction.RIGHT);
+        final Car fast = new Car(new Position(-2, 0), SPEED * 2, Direction.RIGHT);
+        this.lane.add(slow);
+        this.lane.add(fast);
+
+        for (int i = 0; i < OVERTAKE_UPDATES; i++) {
+            slow.update(DELTA_TIME, params);
+            fast.update(DELTA_TIME, params);
+        }
+        this.lane.markMoved();
+        assertEquals(List.of(slow, fast), this.query(-MAX_X, MAX_X));
+    }
+
+    @Test
+    void testSameObstaclesAsFullScan() {
+        final Random random = new Random(0);
+        final GameParameters params = new GameParametersBuilder().setCarSpeedMultiplier(1).build();
+        final Road road = new Road(new Position(0, 0), new Dimension(10, 3));
+        for (int i = 0; i < UPDATES; i++) {
+            road.update(params, DELTA_TIME);
+            final int row = random.nextInt(3);
+            final double fromX = random.nextDouble(-2, MAX_X);
+            final double toX = fromX + random.nextDouble(2);
+            final List<Obstacle> expected = road.getObstacles().stream()
+                .filter(o -> o.getPosition().y() == row)
+                .filter(o -> o.getPosition().x() <= toX && o.getPosition().x() + o.getDimension().width() > fromX)
+                .sorted((a, b) -> Double.compare(a.getPosition().x(), b.getPosition().x()))
+                .toList();
+            assertEquals(expected, this.query(road, row, fromX, toX));
+        }
+    }
+
+    private List<Obstacle> query(final double fromX, final double toX) {
+        final List<Obstacle> result = new ArrayList<>();
+        this.lane.forEachInRange(fromX, toX, result::add);
+        return result;
+    }
+
+    private List<Obstacle> query(final Road road, final int row, final double fromX, final double toX) {
+        final List<Obstacle> result = new ArrayList<>();
+        road.forEachObstacleInRow(row, fromX, toX, result::add);
+        return result;
+    }
+}
@@ -20,6 +20,7 @@ class TestRiver {
     private static final int WIDTH = 10;
     private static final int HEIGHT = 3;
     private static final long LOG_INTERVAL = Math.round(River.LOGS_DISTANCE / River.LOGS_SPEED * 1000);
+    private static final long TICK = 10;
 
     private GameParameters gameParameters;
     private River river;
@@ -93,6 +94,21 @@ class TestRiver {
         assertEquals(logCount, countLogs());
     }
 
+    @Test
+    void testFasterLogsRescheduleSpawn() {
+        river.init();
+        final int logCount = countLogs();
+
+        river.update(gameParameters, LOG_INTERVAL / 2);
+        assertEquals(logCount, countLogs());
+
+        //Twice as fast, the next log is due as soon as half of the interval went by
+        gameParameters.setLogSpeedMultiplier(2);
+        river.update(gameParameters, TICK);
+
+        assertTrue(countLogs() > logCount);
+    }
+
     private int countLogs() {
         final long count = river.getObstacles().stream()
             .filter(o -> o.getEntityType() == EntityType.WOOD_LOG)
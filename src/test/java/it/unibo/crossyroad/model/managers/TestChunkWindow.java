@@ -0,0 +1,103 @@
+package it.unibo.crossyroad.model.managers;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.crossyroad.model.api.Dimension;
+import it.unibo.crossyroad.model.api.Position;
+import it.unibo.crossyroad.model.api.chunks.Chunk;
+import it.unibo.crossyroad.model.impl.chunks.Road;
+import it.unibo.crossyroad.model.impl.managers.ChunkWindow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestChunkWindow {
+    private static final int CAPACITY = 4;
+    private static final int CHUNK_HEIGHT = 3;
+    private static final Dimension CHUNK_DIMENSION = new Dimension(10, CHUNK_HEIGHT);
+
+    private ChunkWindow window;
+
+    @BeforeEach
+    void setUp() {
+        this.window = new ChunkWindow(CAPACITY, CHUNK_HEIGHT);
+    }
+
+    @Test
+    void testInvalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> new ChunkWindow(0, CHUNK_HEIGHT));
+        assertThrows(IllegalArgumentException.class, () -> new ChunkWindow(CAPACITY, 0));
+    }
+
+    @Test
+    void testEmpty() {
+        assertTrue(this.window.isEmpty());
+        assertTrue(this.window.getChunkAt(0).isEmpty());
+        assertThrows(NoSuchElementException.class, () -> this.window.getTop());
+        assertThrows(NoSuchElementException.class, () -> this.window.removeBottom());
+    }
+
+    @Test
+    void testPushAndEvict() {
+        final Chunk bottom = road(0);
+        final Chunk middle = road(-CHUNK_HEIGHT);
+        final Chunk top = road(-2 * CHUNK_HEIGHT);
+        this.window.pushTop(bottom);
+        this.window.pushTop(middle);
+        this.window.pushTop(top);
+
+        assertEquals(List.of(top, middle, bottom), this.window.stream().toList());
+        assertSame(top, this.window.getTop());
+        assertSame(bottom, this.window.removeBottom());
+        assertSame(middle, this.window.getBottom());
+        assertSame(top, this.window.removeTop());
+        assertEquals(1, this.window.size());
+    }
+
+    @Test
+    void testOnlyAdjacentChunks() {
+        this.window.pushTop(road(0));
+        assertThrows(IllegalArgumentException.class, () -> this.window.pushTop(road(0)));
+        assertThrows(IllegalArgumentException.class, () -> this.window.pushTop(road(-2 * CHUNK_HEIGHT)));
+    }
+
+    @Test
+    void testFull() {
+        for (int i = 0; i < CAPACITY; i++) {
+            this.window.pushTop(road(-i * CHUNK_HEIGHT));
+        }
+        assertThrows(IllegalStateException.class, () -> this.window.pushTop(road(-CAPACITY * CHUNK_HEIGHT)));
+
+        //Evicting the bottom makes room for a new Chunk at the top, reusing the slot
+        this.window.removeBottom();
+        final Chunk newTop = road(-CAPACITY * CHUNK_HEIGHT);
+        this.window.pushTop(newTop);
+        assertSame(newTop, this.window.getTop());
+        assertEquals(CAPACITY, this.window.size());
+    }
+
+    @Test
+    void testChunkAt() {
+        final Chunk bottom = road(0);
+        final Chunk top = road(-CHUNK_HEIGHT);
+        this.window.pushTop(bottom);
+        this.window.pushTop(top);
+
+        assertSame(bottom, this.window.getChunkAt(0).orElseThrow());
+        assertSame(bottom, this.window.getChunkAt(CHUNK_HEIGHT - 0.5).orElseThrow());
+        assertSame(top, this.window.getChunkAt(-1).orElseThrow());
+        assertSame(top, this.window.getChunkAt(-CHUNK_HEIGHT).orElseThrow());
+        assertTrue(this.window.getChunkAt(CHUNK_HEIGHT).isEmpty());
+        assertTrue(this.window.getChunkAt(-CHUNK_HEIGHT - 1).isEmpty());
+    }
+
+    private static Chunk road(final int y) {
+        return new Road(new Position(0, y), CHUNK_DIMENSION);
+    }
+}
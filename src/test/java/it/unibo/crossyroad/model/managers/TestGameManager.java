@@ -1,18 +1,36 @@
 package it.unibo.crossyroad.model.managers;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import it.unibo.crossyroad.model.api.Direction;
+import it.unibo.crossyroad.model.api.EntityType;
+import it.unibo.crossyroad.model.api.Frame;
+import it.unibo.crossyroad.model.api.GameEvent;
+import it.unibo.crossyroad.model.api.GameEventRing;
+import it.unibo.crossyroad.model.api.Positionable;
 import it.unibo.crossyroad.model.api.managers.GameManager;
 import it.unibo.crossyroad.model.api.GameParameters;
 import it.unibo.crossyroad.model.impl.managers.GameManagerImpl;
 import it.unibo.crossyroad.model.impl.GameParametersBuilder;
+import it.unibo.crossyroad.model.impl.GameParametersImpl;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class TestGameManager {
+    private static final int MOVES = 100;
+    private static final double MAP_HEIGHT = 9;
+    private static final long SEED = 42;
+    private static final long DELTA_TIME = 10;
+    private static final int UPDATES_PER_MOVE = 7;
+    private static final double DELTA = 1e-9;
     private GameManager gameManager;
 
     @BeforeEach
@@ -35,6 +53,33 @@ class TestGameManager {
         assertFalse(this.gameManager.getPositionables().isEmpty());
     }
 
+    @Test
+    void testWriteFrame() {
+        final Frame frame = new Frame();
+        for (int i = 0; i < UPDATES_PER_MOVE; i++) {
+            this.gameManager.update(DELTA_TIME);
+        }
+        this.gameManager.writeFrame(frame);
+        final List<Positionable> positionables = this.gameManager.getPositionables();
+        assertEquals(positionables.size(), frame.size());
+        boolean moved = false;
+        for (int i = 0; i < frame.size(); i++) {
+            final Positionable p = positionables.get(i);
+            assertEquals(p.getEntityType(), frame.getType(i));
+            assertEquals(p.getPosition().x(), frame.getX(i, 1), DELTA);
+            assertEquals(p.getPosition().y(), frame.getY(i, 1), DELTA);
+            assertEquals(p.getDimension().width(), frame.getWidth(i), DELTA);
+            moved = moved || frame.getX(i, 0) != frame.getX(i, 1);
+        }
+        //The first Chunks have a Road, whose cars moved during the last update
+        assertTrue(moved);
+        assertEquals(0, frame.getScore());
+
+        //The frame is cleared before it's written again
+        this.gameManager.writeFrame(frame);
+        assertEquals(positionables.size(), frame.size());
+    }
+
     @Test
     void testActivePowerUps() {
         assertNotNull(this.gameManager.getActivePowerUps());
@@ -45,4 +90,109 @@ class TestGameManager {
     void testGameOver() {
         assertFalse(this.gameManager.isGameOver());
     }
+
+    @Test
+    void testScrollOffset() {
+        assertEquals(0, this.gameManager.getScrollOffset());
+        double lastOffset = 0;
+        for (int i = 0; i < MOVES && !this.gameManager.isGameOver(); i++) {
+            this.gameManager.movePlayer(i % 5 == 4 ? Direction.LEFT : Direction.UP);
+            final double offset = this.gameManager.getScrollOffset();
+            assertTrue(offset >= lastOffset);
+            lastOffset = offset;
+
+            //The player always stays on the screen
+            final double playerY = this.gameManager.getPositionables().stream()
+                                                   .filter(p -> p.getEntityType() == EntityType.PLAYER)
+                                                   .findFirst()
+                                                   .orElseThrow()
+                                                   .getPosition()
+                                                   .y();
+            assertTrue(playerY + offset >= 0 && playerY + offset < MAP_HEIGHT);
+        }
+    }
+
+    @Test
+    void testEvents() {
+        final GameParameters parameters = new GameParametersImpl();
+        final GameManager manager = new GameManagerImpl(parameters, SEED);
+        final GameEventRing.Cursor cursor = manager.getEvents().subscribe();
+        final List<GameEvent> events = new ArrayList<>();
+        final List<Long> scores = new ArrayList<>();
+        final GameEventRing.Listener listener = (e, t, v) -> {
+            events.add(e);
+            if (e == GameEvent.SCORE_INCREMENTED) {
+                scores.add(v);
+            }
+        };
+        manager.reset();
+        cursor.poll(listener);
+        assertEquals(List.of(GameEvent.GAME_RESET), events);
+
+        for (int i = 0; i < MOVES && !manager.isGameOver(); i++) {
+            manager.movePlayer(i % 5 == 4 ? Direction.LEFT : Direction.UP);
+            for (int j = 0; j < UPDATES_PER_MOVE; j++) {
+                manager.update(DELTA_TIME);
+            }
+            cursor.poll(listener);
+        }
+        //Every point of the score has its event, and new Chunks appear as the map scrolls
+        assertEquals(parameters.getScore(), scores.size());
+        for (int i = 0; i < scores.size(); i++) {
+            assertEquals(i + 1, scores.get(i).longValue());
+        }
+        assertTrue(events.contains(GameEvent.CHUNK_GENERATED));
+
+        //The end of the game is published once
+        events.clear();
+        manager.endGame();
+        assertTrue(manager.isGameOver());
+        assertTrue(manager.isGameOver());
+        cursor.poll(listener);
+        assertEquals(List.of(GameEvent.GAME_OVER), events);
+        assertEquals(0, cursor.getDropped());
+    }
+
+    @Test
+    void testSeededGamesAreIdentical() {
+        final GameManager first = new GameManagerImpl(new GameParametersImpl(), SEED);
+        final GameManager second = new GameManagerImpl(new GameParametersImpl(), SEED);
+        first.reset();
+        second.reset();
+        assertEquals(snapshot(first), snapshot(second));
+
+        for (int i = 0; i < MOVES && !first.isGameOver(); i++) {
+            final Direction move = i % 5 == 4 ? Direction.LEFT : Direction.UP;
+            first.movePlayer(move);
+            second.movePlayer(move);
+            for (int j = 0; j < UPDATES_PER_MOVE; j++) {
+                first.update(DELTA_TIME);
+                second.update(DELTA_TIME);
+            }
+            assertEquals(snapshot(first), snapshot(second));
+            assertEquals(first.isGameOver(), second.isGameOver());
+        }
+
+        //A new game with the same seed starts from the same map
+        final List<String> start = snapshot(second);
+        second.reset();
+        first.reset();
+        assertEquals(snapshot(first), snapshot(second));
+        assertNotEquals(start, snapshot(second));
+    }
+
+    @Test
+    void testDifferentSeeds() {
+        final GameManager first = new GameManagerImpl(new GameParametersImpl(), SEED);
+        final GameManager second = new GameManagerImpl(new GameParametersImpl(), SEED + 1);
+        first.reset();
+        second.reset();
+        assertNotEquals(snapshot(first), snapshot(second));
+    }
+
+    private static List<String> snapshot(final GameManager manager) {
+        return manager.getPositionables().stream()
+                      .map(p -> p.getEntityType() + "@" + p.getPosition())
+                      .toList();
+    }
 }
@@ -0,0 +1,110 @@
+package it.unibo.crossyroad.model.managers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.crossyroad.model.api.Dimension;
+import it.unibo.crossyroad.model.api.Position;
+import it.unibo.crossyroad.model.api.chunks.Chunk;
+import it.unibo.crossyroad.model.api.obstacles.CollisionType;
+import it.unibo.crossyroad.model.api.pickables.Pickable;
+import it.unibo.crossyroad.model.impl.chunks.Grass;
+import it.unibo.crossyroad.model.impl.managers.OccupancyGrid;
+import it.unibo.crossyroad.model.impl.pickables.Coin;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestOccupancyGrid {
+    private static final int WIDTH = 10;
+    private static final int TOP_ROW = -12;
+    private static final int ROWS = 24;
+    private static final Position CHUNK_POSITION = new Position(0, -3);
+    private static final Dimension CHUNK_DIMENSION = new Dimension(10, 3);
+
+    private OccupancyGrid grid;
+    private Chunk grass;
+
+    @BeforeEach
+    void setUp() {
+        this.grid = new OccupancyGrid(WIDTH, TOP_ROW, ROWS);
+        this.grass = new Grass(CHUNK_POSITION, CHUNK_DIMENSION);
+        this.grid.addChunk(this.grass);
+    }
+
+    @Test
+    void testInvalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> new OccupancyGrid(0, TOP_ROW, ROWS));
+        assertThrows(IllegalArgumentException.class, () -> new OccupancyGrid(Integer.SIZE, TOP_ROW, ROWS));
+        assertThrows(IllegalArgumentException.class, () -> new OccupancyGrid(WIDTH, TOP_ROW, 0));
+    }
+
+    @Test
+    void testSolidObstaclesIndexed() {
+        this.grass.getObstacles().stream()
+                                 .filter(o -> o.getCollisionType() == CollisionType.SOLID)
+                                 .forEach(o -> assertTrue(this.grid.isBlocked(o.getPosition())));
+        final long blocked = this.countBlocked();
+        assertEquals(this.grass.getObstacles().size(), blocked);
+    }
+
+    @Test
+    void testPickablesIndexed() {
+        for (final Pickable p : this.grass.getPickables()) {
+            assertEquals(p, this.grid.getPickable((int) p.getPosition().x(), (int) p.getPosition().y()).orElseThrow());
+            this.grid.removePickable(p);
+            assertTrue(this.grid.getPickable((int) p.getPosition().x(), (int) p.getPosition().y()).isEmpty());
+        }
+    }
+
+    @Test
+    void testScroll() {
+        final long blocked = this.countBlocked();
+        final int mask = this.grid.getSolidMask((int) CHUNK_POSITION.y());
+
+        this.grid.scroll(1);
+
+        //The content keeps its world coordinates
+        assertEquals(mask, this.grid.getSolidMask((int) CHUNK_POSITION.y()));
+        assertEquals(blocked, this.countBlocked());
+        assertEquals(0, this.grid.getSolidMask(TOP_ROW + ROWS - 1));
+        assertThrows(IllegalArgumentException.class, () -> this.grid.scroll(-1));
+    }
+
+    @Test
+    void testRowsFallOffTheBottom() {
+        this.grid.scroll(ROWS);
+        assertEquals(0, this.countBlocked());
+        //The rows reused for the new window are empty
+        assertEquals(0, this.grid.getSolidMask((int) CHUNK_POSITION.y() - ROWS));
+    }
+
+    @Test
+    void testRemoveChunk() {
+        this.grid.removeChunk(this.grass);
+        assertEquals(0, this.countBlocked());
+        this.grass.getPickables().forEach(p -> assertTrue(
+            this.grid.getPickable((int) p.getPosition().x(), (int) p.getPosition().y()).isEmpty()
+        ));
+    }
+
+    @Test
+    void testOutsideGrid() {
+        final Coin coin = new Coin(new Position(0, TOP_ROW - 1));
+        this.grid.addPickable(coin);
+        assertTrue(this.grid.getPickable(0, TOP_ROW - 1).isEmpty());
+        assertFalse(this.grid.isBlocked(WIDTH, 0));
+        assertFalse(this.grid.isBlocked(new Position(0.5, CHUNK_POSITION.y())));
+        assertEquals(0, this.grid.getSolidMask(TOP_ROW + ROWS));
+    }
+
+    private long countBlocked() {
+        long count = 0;
+        for (int y = TOP_ROW; y < TOP_ROW + ROWS; y++) {
+            count += Integer.bitCount(this.grid.getSolidMask(y));
+        }
+        return count;
+    }
+}
@@ -0,0 +1,103 @@
+package it.unibo.crossyroad.model.managers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.crossyroad.model.api.EntityType;
+import it.unibo.crossyroad.model.api.GameParameters;
+import it.unibo.crossyroad.model.api.Position;
+import it.unibo.crossyroad.model.api.TimingWheel;
+import it.unibo.crossyroad.model.api.pickables.PowerUp;
+import it.unibo.crossyroad.model.impl.GameParametersImpl;
+import it.unibo.crossyroad.model.impl.managers.PowerUpRegistry;
+import it.unibo.crossyroad.model.impl.pickables.Invincibility;
+import it.unibo.crossyroad.model.impl.pickables.SlowCars;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for the {@link PowerUpRegistry} class.
+ */
+class TestPowerUpRegistry {
+    private static final long SLOW_CARS_DURATION = 10_000L;
+    private static final long STEP = 4_000L;
+    private static final double DELTA = 1e-9;
+
+    private final List<EntityType> expired = new ArrayList<>();
+    private TimingWheel timers;
+    private PowerUpRegistry registry;
+    private GameParameters parameters;
+
+    /**
+     * Creates an empty registry on a new wheel, and new game parameters.
+     */
+    @BeforeEach
+    void setUp() {
+        this.expired.clear();
+        this.timers = new TimingWheel();
+        this.parameters = new GameParametersImpl();
+        this.registry = new PowerUpRegistry(this.timers, this.parameters, this.expired::add);
+    }
+
+    /**
+     * Tests that a PowerUp counts down with the game time and ends at its deadline.
+     */
+    @Test
+    void testDeadline() {
+        final double speed = this.parameters.getCarSpeedMultiplier();
+        this.activate(new SlowCars(Position.of(0, 0)));
+        assertTrue(this.registry.isActive(EntityType.SLOW_CARS));
+        assertEquals(SLOW_CARS_DURATION, this.registry.getRemaining(EntityType.SLOW_CARS));
+
+        this.timers.advance(STEP);
+        assertEquals(SLOW_CARS_DURATION - STEP, this.registry.getRemaining(EntityType.SLOW_CARS));
+        assertEquals(Map.of(EntityType.SLOW_CARS, SLOW_CARS_DURATION - STEP), this.registry.toMap());
+        assertTrue(this.expired.isEmpty());
+
+        this.timers.advance(SLOW_CARS_DURATION - STEP);
+        assertFalse(this.registry.isActive(EntityType.SLOW_CARS));
+        assertEquals(List.of(EntityType.SLOW_CARS), this.expired);
+        assertEquals(speed, this.parameters.getCarSpeedMultiplier(), DELTA);
+        assertTrue(this.registry.toMap().isEmpty());
+    }
+
+    /**
+     * Tests that extending a PowerUp postpones its deadline.
+     */
+    @Test
+    void testExtend() {
+        this.activate(new SlowCars(Position.of(0, 0)));
+        this.timers.advance(STEP);
+        assertEquals(SLOW_CARS_DURATION * 2 - STEP, this.registry.extend(EntityType.SLOW_CARS, SLOW_CARS_DURATION));
+
+        this.timers.advance(SLOW_CARS_DURATION);
+        assertTrue(this.registry.isActive(EntityType.SLOW_CARS));
+        this.timers.advance(SLOW_CARS_DURATION - STEP);
+        assertEquals(List.of(EntityType.SLOW_CARS), this.expired);
+    }
+
+    /**
+     * Tests that there's at most one PowerUp per type, and that the missing ones can't be looked up.
+     */
+    @Test
+    void testOnePerType() {
+        this.activate(new SlowCars(Position.of(0, 0)));
+        this.activate(new Invincibility(Position.of(1, 0)));
+        assertEquals(2, this.registry.toMap().size());
+        assertThrows(IllegalStateException.class, () -> this.registry.activate(new SlowCars(Position.of(2, 0))));
+        assertThrows(IllegalStateException.class, () -> this.registry.getRemaining(EntityType.COIN_MULTIPLIER));
+        assertThrows(IllegalStateException.class, () -> this.registry.extend(EntityType.COIN_MULTIPLIER, STEP));
+    }
+
+    private void activate(final PowerUp powerUp) {
+        powerUp.pickUp(this.parameters);
+        this.registry.activate(powerUp);
+    }
+}
@@ -0,0 +1,205 @@
+package it.unibo.crossyroad.model.managers;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.crossyroad.model.api.Dimension;
+import it.unibo.crossyroad.model.api.Direction;
+import it.unibo.crossyroad.model.api.EntityType;
+import it.unibo.crossyroad.model.api.Position;
+import it.unibo.crossyroad.model.api.chunks.AbstractChunk;
+import it.unibo.crossyroad.model.impl.managers.OccupancyGrid;
+import it.unibo.crossyroad.model.impl.managers.RowReachability;
+import it.unibo.crossyroad.model.impl.obstacles.Rock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestRowReachability {
+    private static final int WIDTH = 10;
+    private static final int TOP_ROW = -12;
+    private static final int BOTTOM_ROW = 8;
+    private static final int GRID_ROWS = 24;
+    private static final int CHUNK_HEIGHT = 3;
+    private static final int RANDOM_MAPS = 2000;
+    private static final int RANDOM_ROCKS = 12;
+    private static final Position PLAYER = new Position(5, 8);
+
+    private OccupancyGrid grid;
+    private RowReachability reachability;
+
+    @BeforeEach
+    void setUp() {
+        this.grid = new OccupancyGrid(WIDTH, TOP_ROW, GRID_ROWS);
+        this.reachability = new RowReachability(this.grid, WIDTH, TOP_ROW, BOTTOM_ROW);
+        this.reachability.reset(TOP_ROW);
+    }
+
+    @Test
+    void testEmptyMap() {
+        assertTrue(this.reachability.isTopReachable(PLAYER));
+    }
+
+    @Test
+    void testWall() {
+        this.grid.addChunk(new RockChunk(0, wall(0, -1)));
+        this.reachability.reset(TOP_ROW);
+        assertFalse(this.reachability.isTopReachable(PLAYER));
+    }
+
+    @Test
+    void testWallWithGap() {
+        final List<Position> rocks = wall(0, 9);
+        this.grid.addChunk(new RockChunk(0, rocks));
+        this.reachability.reset(TOP_ROW);
+        assertTrue(this.reachability.isTopReachable(PLAYER));
+    }
+
+    @Test
+    void testExtendAndRetract() {
+        this.reachability.reset(TOP_ROW + CHUNK_HEIGHT);
+        assertTrue(this.reachability.isTopReachable(PLAYER));
+
+        final RockChunk blocking = new RockChunk(TOP_ROW, wall(TOP_ROW, -1));
+        this.grid.addChunk(blocking);
+        assertFalse(this.reachability.extendTo(TOP_ROW, PLAYER));
+
+        this.grid.removeChunk(blocking);
+        this.reachability.retract();
+        assertTrue(this.reachability.isTopReachable(PLAYER));
+
+        this.grid.addChunk(new RockChunk(TOP_ROW, wall(TOP_ROW, 2)));
+        assertTrue(this.reachability.extendTo(TOP_ROW, PLAYER));
+        assertThrows(IllegalArgumentException.class, () -> this.reachability.extendTo(TOP_ROW, PLAYER));
+    }
+
+    @Test
+    void testScroll() {
+        this.grid.addChunk(new RockChunk(0, wall(0, -1)));
+        this.reachability.reset(TOP_ROW);
+        assertFalse(this.reachability.isTopReachable(PLAYER));
+
+        //The map scrolls until the wall is the bottom row, with the player above it
+        for (int i = 0; i < BOTTOM_ROW; i++) {
+            this.grid.scroll(1);
+            this.reachability.scroll(1);
+        }
+        assertTrue(this.reachability.isTopReachable(new Position(5, -4)));
+        assertThrows(IllegalArgumentException.class, () -> this.reachability.scroll(-1));
+    }
+
+    @Test
+    void testReachableCells() {
+        this.grid.addChunk(new RockChunk(0, wall(0, -1)));
+        this.reachability.reset(TOP_ROW);
+        assertTrue(this.reachability.isReachable(new Position(0, 1), PLAYER));
+        assertFalse(this.reachability.isReachable(new Position(0, 0), PLAYER));
+        assertFalse(this.reachability.isReachable(new Position(0, -1), PLAYER));
+        assertFalse(this.reachability.isReachable(new Position(0.5, 1), PLAYER));
+        assertFalse(this.reachability.isReachable(new Position(WIDTH, 1), PLAYER));
+        assertFalse(this.reachability.isReachable(new Position(0, BOTTOM_ROW + 1), PLAYER));
+    }
+
+    @Test
+    void testSameCellsAsBreadthFirstSearch() {
+        final Random random = new Random(1);
+        for (int i = 0; i < RANDOM_MAPS; i++) {
+            final OccupancyGrid randomGrid = new OccupancyGrid(WIDTH, TOP_ROW, GRID_ROWS);
+            final RowReachability randomReachability = new RowReachability(randomGrid, WIDTH, TOP_ROW, BOTTOM_ROW);
+            for (int y = TOP_ROW; y <= BOTTOM_ROW; y += CHUNK_HEIGHT) {
+                randomGrid.addChunk(new RockChunk(y, randomRocks(random, y)));
+            }
+            randomReachability.reset(TOP_ROW);
+            final Position target = new Position(random.nextInt(WIDTH), random.nextInt(TOP_ROW, BOTTOM_ROW + 1));
+            assertEquals(breadthFirstSearch(randomGrid, target), randomReachability.isReachable(target, PLAYER));
+        }
+    }
+
+    @Test
+    void testSameResultAsBreadthFirstSearch() {
+        final Random random = new Random(0);
+        for (int i = 0; i < RANDOM_MAPS; i++) {
+            final OccupancyGrid randomGrid = new OccupancyGrid(WIDTH, TOP_ROW, GRID_ROWS);
+            final RowReachability randomReachability = new RowReachability(randomGrid, WIDTH, TOP_ROW, BOTTOM_ROW);
+            for (int y = TOP_ROW + CHUNK_HEIGHT; y <= BOTTOM_ROW; y += CHUNK_HEIGHT) {
+                randomGrid.addChunk(new RockChunk(y, randomRocks(random, y)));
+            }
+            randomReachability.reset(TOP_ROW + CHUNK_HEIGHT);
+            randomReachability.isTopReachable(PLAYER);
+
+            final RockChunk top = new RockChunk(TOP_ROW, randomRocks(random, TOP_ROW));
+            randomGrid.addChunk(top);
+            assertEquals(breadthFirstSearch(randomGrid), randomReachability.extendTo(TOP_ROW, PLAYER));
+        }
+    }
+
+    private static boolean breadthFirstSearch(final OccupancyGrid grid) {
+        return IntStream.range(0, WIDTH).anyMatch(x -> breadthFirstSearch(grid, new Position(x, TOP_ROW)));
+    }
+
+    private static boolean breadthFirstSearch(final OccupancyGrid grid, final Position target) {
+        final Set<Position> visited = new HashSet<>();
+        final Queue<Position> queue = new ArrayDeque<>();
+        queue.add(PLAYER);
+        visited.add(PLAYER);
+        while (!queue.isEmpty()) {
+            final Position current = queue.poll();
+            if (current.equals(target)) {
+                return true;
+            }
+            for (final Direction d : Direction.values()) {
+                final Position next = d.apply(current);
+                if (next.x() >= 0 && next.x() < WIDTH && next.y() >= TOP_ROW && next.y() <= BOTTOM_ROW
+                    && !grid.isBlocked(next) && visited.add(next)) {
+                    queue.add(next);
+                }
+            }
+        }
+        return false;
+    }
+
+    private static List<Position> randomRocks(final Random random, final int y) {
+        return random.ints(RANDOM_ROCKS, 0, WIDTH * CHUNK_HEIGHT)
+                     .mapToObj(i -> new Position(i % WIDTH, y + i / WIDTH))
+                     .filter(p -> !p.equals(PLAYER))
+                     .distinct()
+                     .toList();
+    }
+
+    private static List<Position> wall(final int y, final int gap) {
+        return IntStream.range(0, WIDTH)
+                        .filter(x -> x != gap)
+                        .mapToObj(x -> new Position(x, y))
+                        .toList();
+    }
+
+    /**
+     * A Chunk with rocks in the given positions.
+     */
+    private static final class RockChunk extends AbstractChunk {
+        RockChunk(final int y, final List<Position> rocks) {
+            super(new Position(0, y), new Dimension(WIDTH, CHUNK_HEIGHT));
+            rocks.forEach(p -> this.addObstacle(new Rock(p, Dimension.unit())));
+        }
+
+        @Override
+        public EntityType getEntityType() {
+            return EntityType.GRASS;
+        }
+
+        @Override
+        protected void generateObstacles() {
+            //The rocks are given in the constructor
+        }
+    }
+}
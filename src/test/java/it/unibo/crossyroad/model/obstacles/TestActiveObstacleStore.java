@@ -0,0 +1,228 @@
+package it.unibo.crossyroad.model.obstacles;
+
+import it.unibo.crossyroad.model.api.Direction;
+import it.unibo.crossyroad.model.api.GameParameters;
+import it.unibo.crossyroad.model.api.Position;
+import it.unibo.crossyroad.model.api.obstacles.ActiveObstacle;
+import it.unibo.crossyroad.model.api.obstacles.ActiveObstacleStore;
+import it.unibo.crossyroad.model.impl.GameParametersImpl;
+import it.unibo.crossyroad.model.impl.obstacles.Car;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for the {@link ActiveObstacleStore} class.
+ */
+class TestActiveObstacleStore {
+    private static final Position LEFT_START = new Position(20, 5);
+    private static final Position RIGHT_START = new Position(0, 4);
+    private static final double SPEED = 2.0;
+    private static final long DELTA_TIME = 100;
+    private static final int UPDATES_COUNT = 50;
+    private static final double SEGMENT_WIDTH = 10;
+    private static final double MARGIN = 3;
+    private static final double SHIFT = 1.5;
+    private static final double DELTA_DOUBLE = 0.0001;
+    private static final double MILLIS_PER_SECOND = 1000.0;
+
+    private ActiveObstacleStore store;
+    private GameParameters gameParameters;
+
+    /**
+     * Creates an empty store before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        this.store = new ActiveObstacleStore();
+        this.gameParameters = new GameParametersImpl();
+    }
+
+    /**
+     * Tests that the obstacles in the store move like the ones updated one by one.
+     */
+    @Test
+    void testAdvanceMatchesUpdate() {
+        final Car storedLeft = new Car(LEFT_START, SPEED, Direction.LEFT);
+        final Car storedRight = new Car(RIGHT_START, SPEED * 2, Direction.RIGHT);
+        final Car left = new Car(LEFT_START, SPEED, Direction.LEFT);
+        final Car right = new Car(RIGHT_START, SPEED * 2, Direction.RIGHT);
+        this.store.add(storedLeft);
+        this.store.add(storedRight);
+
+        for (int i = 0; i < UPDATES_COUNT; i++) {
+            this.store.advance(DELTA_TIME, this.gameParameters);
+            left.update(DELTA_TIME, this.gameParameters);
+            right.update(DELTA_TIME, this.gameParameters);
+            assertEquals(left.getPosition().x(), storedLeft.getPosition().x(), DELTA_DOUBLE);
+            assertEquals(right.getPosition().x(), storedRight.getPosition().x(), DELTA_DOUBLE);
+            assertEquals(left.getPosition().y(), storedLeft.getPosition().y());
+        }
+    }
+
+    /**
+     * Tests that an obstacle joining a conveyor that already moved starts from its own position,
+     * and then moves together with the others.
+     */
+    @Test
+    void testJoinMovingConveyor() {
+        final Car first = new Car(RIGHT_START, SPEED, Direction.RIGHT);
+        this.store.add(first);
+        for (int i = 0; i < UPDATES_COUNT; i++) {
+            this.store.advance(DELTA_TIME, this.gameParameters);
+        }
+
+        final Car second = new Car(RIGHT_START, SPEED, Direction.RIGHT);
+        this.store.add(second);
+        assertEquals(RIGHT_START.x(), second.getPosition().x(), DELTA_DOUBLE);
+        final double distance = first.getPosition().x() - second.getPosition().x();
+        for (int i = 0; i < UPDATES_COUNT; i++) {
+            this.store.advance(DELTA_TIME, this.gameParameters);
+            assertEquals(distance, first.getPosition().x() - second.getPosition().x(), DELTA_DOUBLE);
+        }
+
+        //Once the first car leaves, the conveyor keeps moving the second one
+        assertTrue(this.store.remove(first));
+        final double before = second.getPosition().x();
+        this.store.advance(DELTA_TIME, this.gameParameters);
+        assertTrue(second.getPosition().x() > before);
+    }
+
+    /**
+     * Tests that the position at a later age predicts the one reached by advancing the store,
+     * and that the past positions stay the same after a speed change.
+     */
+    @Test
+    void testPositionAtAge() {
+        final Car car = new Car(RIGHT_START, SPEED, Direction.RIGHT);
+        this.store.add(car);
+        this.store.advance(DELTA_TIME, this.gameParameters);
+        final long horizon = DELTA_TIME * UPDATES_COUNT;
+        final Position predicted = car.positionAt(horizon);
+        for (int i = 1; i < UPDATES_COUNT; i++) {
+            this.store.advance(DELTA_TIME, this.gameParameters);
+        }
+        assertEquals(horizon, car.getAge());
+        assertEquals(predicted.x(), car.getPosition().x(), DELTA_DOUBLE);
+
+        this.gameParameters.setCarSpeedMultiplier(this.gameParameters.getCarSpeedMultiplier() * 2);
+        this.store.advance(DELTA_TIME, this.gameParameters);
+        assertEquals(predicted.x(), car.positionAt(horizon).x(), DELTA_DOUBLE);
+        assertEquals(RIGHT_START.x(), car.positionAt(0).x(), DELTA_DOUBLE);
+        assertTrue(car.getPosition().x() - predicted.x() > SPEED * DELTA_TIME / MILLIS_PER_SECOND);
+    }
+
+    /**
+     * Tests that a stored obstacle can only be moved by the store, and a removed one can be moved again.
+     */
+    @Test
+    void testViewsAreReadOnly() {
+        final Car stored = new Car(RIGHT_START, SPEED, Direction.RIGHT);
+        final Car free = new Car(RIGHT_START, SPEED, Direction.RIGHT);
+        this.store.add(stored);
+
+        assertThrows(IllegalStateException.class, () -> stored.update(DELTA_TIME, this.gameParameters));
+        assertThrows(IllegalStateException.class, () -> stored.increaseY(SHIFT));
+        this.store.advance(DELTA_TIME, this.gameParameters);
+        free.update(DELTA_TIME, this.gameParameters);
+        assertEquals(free.getPosition().x(), stored.getPosition().x(), DELTA_DOUBLE);
+
+        this.store.remove(stored);
+        stored.increaseY(SHIFT);
+        free.increaseY(SHIFT);
+        assertEquals(free.getPosition().y(), stored.getPosition().y());
+    }
+
+    /**
+     * Tests that a removed obstacle keeps its last position and can't be added twice.
+     */
+    @Test
+    void testRemove() {
+        final Car car = new Car(RIGHT_START, SPEED, Direction.RIGHT);
+        this.store.add(car);
+        assertThrows(IllegalArgumentException.class, () -> this.store.add(car));
+
+        this.store.advance(DELTA_TIME, this.gameParameters);
+        final Position last = car.getPosition();
+        assertTrue(this.store.remove(car));
+        assertFalse(this.store.remove(car));
+        assertEquals(0, this.store.size());
+        this.store.advance(DELTA_TIME, this.gameParameters);
+        assertEquals(last, car.getPosition());
+    }
+
+    /**
+     * Tests that the obstacles far from the segment are removed and the others keep moving.
+     */
+    @Test
+    void testRemoveOutside() {
+        final Car inside = new Car(new Position(SEGMENT_WIDTH / 2, 0), SPEED, Direction.RIGHT);
+        final Car farLeft = new Car(new Position(-SEGMENT_WIDTH, 0), SPEED, Direction.LEFT);
+        final Car nearRight = new Car(new Position(SEGMENT_WIDTH + MARGIN, 0), SPEED, Direction.RIGHT);
+        final Car farRight = new Car(new Position(SEGMENT_WIDTH * 2, 0), SPEED, Direction.RIGHT);
+        this.store.add(farLeft);
+        this.store.add(inside);
+        this.store.add(farRight);
+        this.store.add(nearRight);
+
+        final List<ActiveObstacle> removed = this.store.removeOutside(0, SEGMENT_WIDTH, MARGIN);
+        assertEquals(List.of(farLeft, farRight), removed);
+        assertEquals(2, this.store.size());
+        assertTrue(this.store.removeOutside(0, SEGMENT_WIDTH, MARGIN).isEmpty());
+
+        final Position insideStart = inside.getPosition();
+        this.store.advance(DELTA_TIME, this.gameParameters);
+        assertTrue(inside.getPosition().x() > insideStart.x());
+        assertTrue(this.store.remove(nearRight));
+        assertTrue(this.store.remove(inside));
+    }
+
+    /**
+     * Tests that the quiet times are exact: the obstacles keep inside the segment and apart from a box
+     * for that long, and not a millisecond more, and that they're zero until the speeds are settled.
+     */
+    @Test
+    void testQuietTime() {
+        final Car car = new Car(RIGHT_START, SPEED, Direction.RIGHT);
+        final Car box = new Car(new Position(SEGMENT_WIDTH / 2, RIGHT_START.y()), SPEED, Direction.RIGHT);
+        this.store.add(car);
+        //The conveyor of the new car gets its speed at the next update
+        assertEquals(0, this.store.getTimeInside(0, SEGMENT_WIDTH, MARGIN, this.gameParameters, Long.MAX_VALUE));
+        this.store.advance(DELTA_TIME, this.gameParameters);
+
+        final long apart = this.store.getTimeApart(box, this.gameParameters, Long.MAX_VALUE);
+        final long inside = this.store.getTimeInside(0, SEGMENT_WIDTH, MARGIN, this.gameParameters, Long.MAX_VALUE);
+        assertTrue(apart > 0 && apart < inside);
+        assertEquals(DELTA_TIME, this.store.getTimeApart(box, this.gameParameters, DELTA_TIME));
+
+        this.store.advance(apart, this.gameParameters);
+        assertFalse(car.overlaps(box));
+        this.store.advance(1, this.gameParameters);
+        assertTrue(car.overlaps(box));
+
+        this.store.advance(inside - apart - 1, this.gameParameters);
+        assertTrue(this.store.removeOutside(0, SEGMENT_WIDTH, MARGIN).isEmpty());
+        this.store.advance(1, this.gameParameters);
+        assertEquals(List.of(car), this.store.removeOutside(0, SEGMENT_WIDTH, MARGIN));
+    }
+
+    /**
+     * Tests that a change of the speed multipliers leaves no quiet time until the next update.
+     */
+    @Test
+    void testQuietTimeAfterSpeedChange() {
+        this.store.add(new Car(RIGHT_START, SPEED, Direction.RIGHT));
+        this.store.advance(DELTA_TIME, this.gameParameters);
+        assertTrue(this.store.getTimeInside(0, SEGMENT_WIDTH, MARGIN, this.gameParameters, Long.MAX_VALUE) > 0);
+        this.gameParameters.setCarSpeedMultiplier(this.gameParameters.getCarSpeedMultiplier() * 2);
+        assertEquals(0, this.store.getTimeInside(0, SEGMENT_WIDTH, MARGIN, this.gameParameters, Long.MAX_VALUE));
+        this.store.advance(DELTA_TIME, this.gameParameters);
+        assertTrue(this.store.getTimeInside(0, SEGMENT_WIDTH, MARGIN, this.gameParameters, Long.MAX_VALUE) > 0);
+    }
+}
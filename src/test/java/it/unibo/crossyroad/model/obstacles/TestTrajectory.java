@@ -0,0 +1,102 @@
+package it.unibo.crossyroad.model.obstacles;
+
+import it.unibo.crossyroad.model.api.obstacles.Trajectory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class for the {@link Trajectory} class.
+ */
+class TestTrajectory {
+    private static final double START_VALUE = 3.0;
+    private static final double SPEED = 2.0;
+    private static final double FASTER_SPEED = 2.5;
+    private static final long DELTA_TIME = 100;
+    private static final int UPDATES_COUNT = 10;
+    private static final int MAX_DELTA_TIME = 40;
+    private static final double DELTA_DOUBLE = 0.0001;
+    private static final double MILLIS_PER_SECOND = 1000.0;
+
+    private Trajectory trajectory;
+
+    /**
+     * Creates a trajectory starting at time 0 before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        this.trajectory = new Trajectory(0, START_VALUE);
+    }
+
+    /**
+     * Tests that a single extension moves the value like an incremental update.
+     */
+    @Test
+    void testSingleExtension() {
+        this.trajectory.extend(DELTA_TIME, SPEED);
+        assertEquals(START_VALUE + SPEED * DELTA_TIME / MILLIS_PER_SECOND, this.trajectory.valueAt(DELTA_TIME));
+        assertEquals(START_VALUE, this.trajectory.valueAt(0));
+        assertEquals(DELTA_TIME, this.trajectory.getEnd());
+    }
+
+    /**
+     * Tests that a speed change starts a new segment and that the past is not affected by it.
+     */
+    @Test
+    void testSpeedChange() {
+        for (int i = 0; i < UPDATES_COUNT; i++) {
+            this.trajectory.extend(DELTA_TIME, SPEED);
+        }
+        final long change = DELTA_TIME * UPDATES_COUNT;
+        final double valueAtChange = this.trajectory.valueAt(change);
+        for (int i = 0; i < UPDATES_COUNT; i++) {
+            this.trajectory.extend(DELTA_TIME, FASTER_SPEED);
+        }
+
+        assertEquals(2, this.trajectory.getSegmentCount());
+        assertEquals(valueAtChange, this.trajectory.valueAt(change), DELTA_DOUBLE);
+        assertEquals(START_VALUE + SPEED * DELTA_TIME / MILLIS_PER_SECOND, this.trajectory.valueAt(DELTA_TIME), DELTA_DOUBLE);
+        assertEquals(
+            valueAtChange + FASTER_SPEED * change / MILLIS_PER_SECOND,
+            this.trajectory.valueAt(change * 2),
+            DELTA_DOUBLE
+        );
+    }
+
+    /**
+     * Tests that the value doesn't depend on how the time was split in extensions.
+     */
+    @Test
+    void testIndependentFromTicks() {
+        final Random random = new Random(0);
+        final Trajectory oneStep = new Trajectory(0, START_VALUE);
+        long time = 0;
+        while (time < DELTA_TIME * UPDATES_COUNT) {
+            final long deltaTime = random.nextInt(MAX_DELTA_TIME);
+            this.trajectory.extend(deltaTime, SPEED);
+            time += deltaTime;
+        }
+        oneStep.extend(time, SPEED);
+        assertEquals(oneStep.valueAt(time), this.trajectory.valueAt(time));
+        assertEquals(1, this.trajectory.getSegmentCount());
+    }
+
+    /**
+     * Tests that times after the end go on with the last speed.
+     */
+    @Test
+    void testLookahead() {
+        this.trajectory.extend(DELTA_TIME, SPEED);
+        this.trajectory.extend(DELTA_TIME, -SPEED);
+        assertEquals(
+            this.trajectory.valueAt(DELTA_TIME * 2) - SPEED * DELTA_TIME / MILLIS_PER_SECOND,
+            this.trajectory.valueAt(DELTA_TIME * 3),
+            DELTA_DOUBLE
+        );
+        assertThrows(IllegalArgumentException.class, () -> this.trajectory.extend(-DELTA_TIME, SPEED));
+    }
+}
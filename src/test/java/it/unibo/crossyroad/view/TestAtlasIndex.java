@@ -0,0 +1,58 @@
+package it.unibo.crossyroad.view;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.crossyroad.view.impl.AtlasIndex;
+import it.unibo.crossyroad.view.impl.AtlasIndex.Region;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class for the {@link AtlasIndex} class.
+ */
+class TestAtlasIndex {
+    private static final int SKIN_X = 310;
+    private static final int SKIN_SIZE = 500;
+    private static final int CAR_WIDTH = 308;
+    private static final int CAR_HEIGHT = 154;
+    private static final List<String> LINES = List.of(
+        "# Sprite atlas",
+        "obstacles/car_left.png=0,0,308,154",
+        "",
+        "skins/king_front.png=310,0,500,500"
+    );
+
+    /**
+     * Tests that the regions are read, and found from the resource paths used by the views.
+     */
+    @Test
+    void testFind() {
+        final AtlasIndex index = AtlasIndex.parse(LINES);
+        assertEquals(2, index.size());
+        assertEquals(Optional.of(new Region(0, 0, CAR_WIDTH, CAR_HEIGHT)), index.find("obstacles/car_left.png"));
+
+        final Region skin = new Region(SKIN_X, 0, SKIN_SIZE, SKIN_SIZE);
+        assertEquals(Optional.of(skin), index.find("skins/king_front.png"));
+        assertEquals(Optional.of(skin), index.find("/skins/king_front.png"));
+        assertEquals(Optional.of(skin), index.find("\\skins\\king_front.png"));
+        assertEquals(Optional.empty(), index.find("skins/missing.png"));
+    }
+
+    /**
+     * Tests that malformed indexes are rejected.
+     */
+    @Test
+    void testMalformed() {
+        assertThrows(IllegalArgumentException.class, () -> AtlasIndex.parse(List.of("coin.png")));
+        assertThrows(IllegalArgumentException.class, () -> AtlasIndex.parse(List.of("coin.png=0,0,10")));
+        assertThrows(IllegalArgumentException.class, () -> AtlasIndex.parse(List.of("coin.png=0,0,ten,10")));
+        assertThrows(IllegalArgumentException.class, () -> AtlasIndex.parse(List.of("coin.png=0,0,0,10")));
+        assertThrows(IllegalArgumentException.class, () -> AtlasIndex.parse(List.of("=0,0,10,10")));
+        assertThrows(IllegalArgumentException.class,
+            () -> AtlasIndex.parse(List.of("coin.png=0,0,10,10", "/coin.png=10,0,10,10")));
+    }
+}
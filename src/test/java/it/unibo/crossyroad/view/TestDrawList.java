@@ -0,0 +1,85 @@
+package it.unibo.crossyroad.view;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.crossyroad.model.api.Dimension;
+import it.unibo.crossyroad.model.api.EntityType;
+import it.unibo.crossyroad.model.api.Frame;
+import it.unibo.crossyroad.model.api.Position;
+import it.unibo.crossyroad.view.impl.DrawList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class for the {@link DrawList} class.
+ */
+class TestDrawList {
+    private static final List<Set<EntityType>> LAYERS = List.of(
+        EnumSet.of(EntityType.GRASS, EntityType.ROAD),
+        EnumSet.of(EntityType.CAR_LEFT),
+        EnumSet.of(EntityType.PLAYER)
+    );
+    private static final int MANY_CARS = 40;
+    private static final int ROAD_INDEX = 2;
+    private static final int GRASS_INDEX = 4;
+
+    /**
+     * Tests that the elements are sorted into their layers, keeping the order of the frame inside a layer.
+     */
+    @Test
+    void testLayers() {
+        final Frame frame = frameOf(EntityType.PLAYER, EntityType.CAR_LEFT, EntityType.ROAD,
+                                    EntityType.COIN, EntityType.GRASS);
+        final DrawList drawList = new DrawList(LAYERS);
+        drawList.build(frame);
+
+        assertEquals(LAYERS.size(), drawList.getLayerCount());
+        assertEquals(2, drawList.size(0));
+        assertEquals(ROAD_INDEX, drawList.get(0, 0));
+        assertEquals(GRASS_INDEX, drawList.get(0, 1));
+        assertEquals(1, drawList.size(1));
+        assertEquals(1, drawList.get(1, 0));
+        assertEquals(1, drawList.size(2));
+        assertEquals(0, drawList.get(2, 0));
+    }
+
+    /**
+     * Tests that the buckets grow and are emptied at every build.
+     */
+    @Test
+    void testReuse() {
+        final DrawList drawList = new DrawList(LAYERS);
+        final EntityType[] cars = new EntityType[MANY_CARS];
+        Arrays.fill(cars, EntityType.CAR_LEFT);
+        drawList.build(frameOf(cars));
+        assertEquals(MANY_CARS, drawList.size(1));
+        assertEquals(MANY_CARS - 1, drawList.get(1, MANY_CARS - 1));
+
+        drawList.build(frameOf(EntityType.PLAYER));
+        assertEquals(0, drawList.size(1));
+        assertEquals(1, drawList.size(2));
+    }
+
+    /**
+     * Tests that a type can't be in two layers.
+     */
+    @Test
+    void testDuplicateType() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new DrawList(List.of(EnumSet.of(EntityType.ROAD), EnumSet.of(EntityType.ROAD))));
+    }
+
+    private static Frame frameOf(final EntityType... types) {
+        final Frame frame = new Frame();
+        for (final EntityType type : types) {
+            frame.add(type, Position.of(0, 0), Dimension.unit(), Position.of(0, 0));
+        }
+        return frame;
+    }
+}
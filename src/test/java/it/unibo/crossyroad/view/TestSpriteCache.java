@@ -0,0 +1,76 @@
+package it.unibo.crossyroad.view;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.crossyroad.model.api.EntityType;
+import it.unibo.crossyroad.view.impl.SpriteCache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Test class for the {@link SpriteCache} class.
+ */
+class TestSpriteCache {
+    private static final int SMALL = 32;
+    private static final int LARGE = 96;
+    private static final int SIZES = 5;
+
+    private final List<String> loads = new ArrayList<>();
+    private SpriteCache<String> cache;
+
+    /**
+     * Creates a cache whose sprites describe what was loaded, and remembers every load.
+     */
+    @BeforeEach
+    void setUp() {
+        this.loads.clear();
+        this.cache = new SpriteCache<>((type, width, height) -> {
+            final String sprite = type + ":" + width + "x" + height;
+            this.loads.add(sprite);
+            return type == EntityType.WATER ? null : sprite;
+        });
+    }
+
+    /**
+     * Tests that every size of a type is loaded once.
+     */
+    @Test
+    void testLoadedOnce() {
+        final String car = this.cache.get(EntityType.CAR_LEFT, SMALL, SMALL);
+        assertSame(car, this.cache.get(EntityType.CAR_LEFT, SMALL, SMALL));
+        assertEquals(1, this.loads.size());
+
+        this.cache.get(EntityType.CAR_LEFT, LARGE, SMALL);
+        this.cache.get(EntityType.CAR_RIGHT, SMALL, SMALL);
+        assertEquals(List.of("CAR_LEFT:32x32", "CAR_LEFT:96x32", "CAR_RIGHT:32x32"), this.loads);
+
+        //Types without a sprite aren't loaded again either
+        assertNull(this.cache.get(EntityType.WATER, SMALL, SMALL));
+        assertNull(this.cache.get(EntityType.WATER, SMALL, SMALL));
+        assertEquals(List.of("CAR_LEFT:32x32", "CAR_LEFT:96x32", "CAR_RIGHT:32x32", "WATER:32x32"), this.loads);
+    }
+
+    /**
+     * Tests that a type can have many sizes, and that they are loaded again after the cache is cleared.
+     */
+    @Test
+    void testClear() {
+        for (int i = 1; i <= SIZES; i++) {
+            this.cache.get(EntityType.WOOD_LOG, i * SMALL, SMALL);
+        }
+        for (int i = 1; i <= SIZES; i++) {
+            this.cache.get(EntityType.WOOD_LOG, i * SMALL, SMALL);
+        }
+        assertEquals(SIZES, this.loads.size());
+
+        this.cache.clear();
+        this.cache.get(EntityType.WOOD_LOG, SMALL, SMALL);
+        assertEquals(SIZES + 1, this.loads.size());
+    }
+}